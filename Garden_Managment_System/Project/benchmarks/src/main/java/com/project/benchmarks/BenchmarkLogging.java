@@ -0,0 +1,18 @@
+package com.project.benchmarks;
+
+import com.project.logger.Logger;
+
+/**
+ * Logger configuration used by benchmarks that exercise code which logs as a side effect, so the
+ * numbers measure the simulation rather than console output.
+ */
+final class BenchmarkLogging {
+
+    private BenchmarkLogging() {
+    }
+
+    static void quiet() {
+        Logger.setConsoleLogging(false);
+        Logger.setMinimumLevel(Logger.LogLevel.ERROR);
+    }
+}
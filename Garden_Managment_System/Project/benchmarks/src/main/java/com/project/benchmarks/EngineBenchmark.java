@@ -0,0 +1,102 @@
+package com.project.benchmarks;
+
+import com.project.engine.GardenEngine;
+import com.project.engine.GardenListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole-garden passes of the headless {@link GardenEngine}.
+ *
+ * <p>Each pass also runs the simulated time up to the next pass of its kind, so the follow-up
+ * events it schedules (automatic watering, pest control, health recovery) are part of the cost.
+ * Cells cleared by a plant death are replanted after the pass, so the garden keeps its size over a
+ * long run instead of measuring an empty grid.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class EngineBenchmark {
+
+    /**
+     * Garden edge length: 8, 100 and 1000 give 64, 10k and 1M plants.
+     */
+    @Param({"8", "100", "1000"})
+    public int gridSize;
+
+    /**
+     * Plants as heap objects or in native memory.
+     */
+    @Param({"HEAP", "OFF_HEAP"})
+    public GardenEngine.PlantStorage plantStorage;
+
+    private GardenEngine engine;
+    private SplittableRandom random;
+    private final List<int[]> clearedCells = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        engine = Gardens.createEngine(gridSize, new GardenListener() {
+            @Override
+            public void cellCleared(int row, int col) {
+                clearedCells.add(new int[]{row, col});
+            }
+        }, plantStorage);
+        random = new SplittableRandom(42);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.stop();
+    }
+
+    @Benchmark
+    public int waterReductionPass() {
+        engine.reduceWater();
+        // Water is reduced every 30 seconds
+        engine.getScheduler().runUntil(engine.getScheduler().now() + 30_000);
+        replantClearedCells();
+        return engine.getPlantCount();
+    }
+
+    @Benchmark
+    public int insectAttackPass() {
+        engine.randomInsectAttack(random);
+        // Random attacks are 10-40 seconds apart
+        engine.getScheduler().runUntil(engine.getScheduler().now() + 40_000);
+        replantClearedCells();
+        return engine.getPlantCount();
+    }
+
+    @Benchmark
+    public String getState() {
+        return engine.getState();
+    }
+
+    private void replantClearedCells() {
+        for (int[] cell : clearedCells) {
+            engine.plant(cell[0], cell[1], Gardens.typeOf(cell[0] * gridSize + cell[1]));
+        }
+        clearedCells.clear();
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.benchmarks;
+
+import com.project.engine.GardenEngine;
+import com.project.engine.GardenListener;
+import com.project.engine.SimulationRandom;
+import com.project.factory.PlantFactory;
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.modules.Plant;
+
+/**
+ * Shared fixtures for the benchmarks: gardens of a given size built the same way the engine
+ * plants them.
+ */
+final class Gardens {
+
+    private static final PlantType[] TYPES = PlantType.values();
+
+    private Gardens() {
+    }
+
+    /**
+     * @return The plant type of the given cell; types cycle so every size has the same mix.
+     */
+    static PlantType typeOf(int cell) {
+        return TYPES[cell % TYPES.length];
+    }
+
+    static Plant createPlant(int cell) {
+        PlantType type = typeOf(cell);
+        return PlantFactory.createPlant(type.name() + "_" + cell, PlantSpec.defaults(type));
+    }
+
+    static Plant[] createPlants(int count) {
+        Plant[] plants = new Plant[count];
+        for (int i = 0; i < count; i++) {
+            plants[i] = createPlant(i);
+        }
+        return plants;
+    }
+
+    /**
+     * Builds a headless engine with every cell of a {@code gridSize x gridSize} grid planted.
+     * Timers are not scheduled; benchmarks drive the passes themselves.
+     */
+    static GardenEngine createEngine(int gridSize, GardenListener listener) {
+        return createEngine(gridSize, listener, GardenEngine.PlantStorage.HEAP);
+    }
+
+    /**
+     * Like {@link #createEngine(int, GardenListener)}, with the plants in the given storage.
+     */
+    static GardenEngine createEngine(int gridSize, GardenListener listener, GardenEngine.PlantStorage plantStorage) {
+        GardenEngine engine = new GardenEngine(gridSize, gridSize, Runnable::run, listener, SimulationRandom.unseeded(), plantStorage);
+        for (int row = 0; row < gridSize; row++) {
+            for (int col = 0; col < gridSize; col++) {
+                engine.plant(row, col, typeOf(row * gridSize + col));
+            }
+        }
+        return engine;
+    }
+}
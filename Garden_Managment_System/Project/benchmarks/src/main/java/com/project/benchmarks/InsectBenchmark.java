@@ -0,0 +1,55 @@
+package com.project.benchmarks;
+
+import com.project.modules.Insect;
+import com.project.modules.InsectType;
+import com.project.modules.Plant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Insect.getDamage} looked up for every plant of the garden, as an insect attack does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class InsectBenchmark {
+
+    /**
+     * Garden edge length: 8, 100 and 1000 give 64, 10k and 1M plants.
+     */
+    @Param({"8", "100", "1000"})
+    public int gridSize;
+
+    private Plant[] plants;
+    private Insect insect;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        plants = Gardens.createPlants(gridSize * gridSize);
+        insect = new Insect(InsectType.APHID);
+    }
+
+    @Benchmark
+    public long getDamage() {
+        long totalDamage = 0;
+        for (Plant plant : plants) {
+            totalDamage += insect.getDamage(plant.getPlantType());
+        }
+        return totalDamage;
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.benchmarks;
+
+import com.project.logger.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Logger.log} issued once per plant, as a sweep over the garden does.
+ *
+ * <p>{@code ASYNC} is the mode the application runs in, {@code DISABLED} measures the cost of a
+ * filtered-out message. {@code SYNC} writes every line straight to the log file and is slow enough
+ * to be left out by default; select it with {@code -p mode=SYNC}.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class LoggerBenchmark {
+
+    public enum LogMode { SYNC, ASYNC, DISABLED }
+
+    /**
+     * Garden edge length: 8, 100 and 1000 give 64, 10k and 1M plants.
+     */
+    @Param({"8", "100", "1000"})
+    public int gridSize;
+
+    @Param({"ASYNC", "DISABLED"})
+    public LogMode mode;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger.setConsoleLogging(false);
+        Logger.setMinimumLevel(mode == LogMode.DISABLED ? Logger.LogLevel.ERROR : Logger.LogLevel.INFO);
+        if (mode == LogMode.ASYNC) {
+            // COUNT keeps a slow disk from turning the benchmark into a measurement of the writer
+            Logger.enableAsync(200, 65536, Logger.OverflowPolicy.COUNT);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Logger.shutdown();
+    }
+
+    @Benchmark
+    public void log() {
+        int plantCount = gridSize * gridSize;
+        for (int cell = 0; cell < plantCount; cell++) {
+            int id = cell;
+            Logger.log(Logger.LogLevel.INFO, () -> "Plant_" + id + " watered with 5 units.");
+        }
+    }
+}
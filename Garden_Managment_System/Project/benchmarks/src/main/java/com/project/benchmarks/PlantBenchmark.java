@@ -0,0 +1,82 @@
+package com.project.benchmarks;
+
+import com.project.modules.InsectType;
+import com.project.modules.Plant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-plant operations applied to every plant of the garden. One operation is one full sweep, so
+ * ops/s falls with the garden size and allocation per op should grow no faster than it.
+ *
+ * <p>Plants whose health drops below half are restored within the sweep, otherwise they would die
+ * after a few iterations and turn every later call into an early return.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PlantBenchmark {
+
+    /**
+     * Garden edge length: 8, 100 and 1000 give 64, 10k and 1M plants.
+     */
+    @Param({"8", "100", "1000"})
+    public int gridSize;
+
+    private Plant[] plants;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        plants = Gardens.createPlants(gridSize * gridSize);
+    }
+
+    @Benchmark
+    public void water(Blackhole blackhole) {
+        for (Plant plant : plants) {
+            plant.water(5);
+            revive(plant);
+            blackhole.consume(plant.getCurrentWaterLevel());
+        }
+    }
+
+    @Benchmark
+    public void decreaseHealth(Blackhole blackhole) {
+        for (Plant plant : plants) {
+            plant.decreaseHealth(5);
+            revive(plant);
+            blackhole.consume(plant.getHealth());
+        }
+    }
+
+    @Benchmark
+    public void pestAttack(Blackhole blackhole) {
+        for (Plant plant : plants) {
+            plant.pestAttack(InsectType.APHID);
+            revive(plant);
+            blackhole.consume(plant.getHealth());
+        }
+    }
+
+    private static void revive(Plant plant) {
+        if (plant.getHealth() < 50) {
+            plant.setAlive(true);
+            plant.setHealth(100);
+        }
+    }
+}
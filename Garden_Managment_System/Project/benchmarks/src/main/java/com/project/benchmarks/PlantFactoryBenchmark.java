@@ -0,0 +1,61 @@
+package com.project.benchmarks;
+
+import com.project.engine.CellRegion;
+import com.project.engine.GardenEngine;
+import com.project.engine.GardenListener;
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PlantFactory.createPlant} for a whole garden, and {@code GardenEngine.plantAll} filling
+ * a whole garden in one call. Allocation per op is the footprint of planting every cell once.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PlantFactoryBenchmark {
+
+    /**
+     * Garden edge length: 8, 100 and 1000 give 64, 10k and 1M plants.
+     */
+    @Param({"8", "100", "1000"})
+    public int gridSize;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+    }
+
+    @Benchmark
+    public void createPlant(Blackhole blackhole) {
+        int plantCount = gridSize * gridSize;
+        for (int cell = 0; cell < plantCount; cell++) {
+            blackhole.consume(Gardens.createPlant(cell));
+        }
+    }
+
+    @Benchmark
+    public GardenEngine plantAll() {
+        GardenEngine engine = new GardenEngine(gridSize, Runnable::run, new GardenListener() {
+        });
+        engine.plantAll(new CellRegion(0, 0, gridSize, gridSize), PlantType.APPLE, PlantSpec.defaults(PlantType.APPLE));
+        return engine;
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.benchmarks;
+
+import com.project.engine.GardenEngine;
+import com.project.engine.GardenListener;
+import com.project.engine.GardenSaveFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving a fully planted garden and restoring it into a fresh engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SaveFileBenchmark {
+
+    /**
+     * Garden edge length: 100 and 1000 give 10k and 1M plants.
+     */
+    @Param({"100", "1000"})
+    public int gridSize;
+
+    private GardenEngine engine;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkLogging.quiet();
+        engine = Gardens.createEngine(gridSize, new GardenListener() {});
+        file = Files.createTempFile("garden", ".sav");
+        GardenSaveFile.save(engine, file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        engine.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        GardenSaveFile.save(engine, file);
+        return file;
+    }
+
+    @Benchmark
+    public int load() throws IOException {
+        GardenEngine restored = new GardenEngine(gridSize, Runnable::run, new GardenListener() {});
+        GardenSaveFile.load(restored, file);
+        return restored.getPlantCount();
+    }
+}
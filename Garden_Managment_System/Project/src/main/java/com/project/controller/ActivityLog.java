@@ -0,0 +1,127 @@
+package com.project.controller;
+
+import com.project.logger.Logger;
+import javafx.animation.AnimationTimer;
+import javafx.collections.FXCollections;
+import javafx.collections.transformation.FilteredList;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Activity log shown in a virtualized {@link ListView}. Only the newest {@code capacity} entries are
+ * kept (in a {@link LogRingBuffer}), entries are filtered by a minimum severity, and messages are
+ * collected during a frame and appended as one batch by an {@link AnimationTimer}, so both memory
+ * and the cost of an append stay flat however long the simulation runs.
+ */
+class ActivityLog {
+
+    /**
+     * One line of the activity log.
+     */
+    record Entry(Logger.LogLevel level, String message) {
+    }
+
+    private final LogRingBuffer<Entry> entries;
+    private final FilteredList<Entry> visibleEntries;
+    private final ListView<Entry> listView;
+    private final ComboBox<Logger.LogLevel> severityFilter;
+    private final int capacity;
+    private final ArrayDeque<Entry> pending = new ArrayDeque<>();
+
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    /**
+     * @param capacity The maximum number of entries kept.
+     */
+    ActivityLog(int capacity) {
+        entries = new LogRingBuffer<>(capacity);
+        this.capacity = capacity;
+        visibleEntries = new FilteredList<>(entries);
+
+        listView = new ListView<>(visibleEntries);
+        listView.setCellFactory(view -> new ListCell<>() {
+            @Override
+            protected void updateItem(Entry entry, boolean empty) {
+                super.updateItem(entry, empty);
+                setText(empty || entry == null ? null : entry.message());
+                setStyle(empty || entry == null ? "" : styleFor(entry.level()));
+            }
+        });
+
+        // Least severe first, so the filter reads "show this level and above"
+        Logger.LogLevel[] levels = Logger.LogLevel.values();
+        Arrays.sort(levels, Comparator.comparingInt(Logger.LogLevel::getSeverity));
+        severityFilter = new ComboBox<>(FXCollections.observableArrayList(levels));
+        severityFilter.setValue(Logger.LogLevel.INFO);
+        severityFilter.valueProperty().addListener((obs, oldVal, newVal) ->
+            visibleEntries.setPredicate(entry -> entry.level().getSeverity() >= newVal.getSeverity()));
+        visibleEntries.setPredicate(entry -> entry.level().getSeverity() >= Logger.LogLevel.INFO.getSeverity());
+
+        pulse.start();
+    }
+
+    ListView<Entry> getListView() {
+        return listView;
+    }
+
+    ComboBox<Logger.LogLevel> getSeverityFilter() {
+        return severityFilter;
+    }
+
+    /**
+     * Queues a message; it appears on the next frame. Of the messages queued during one frame only
+     * the newest {@code capacity} are kept, as the list would evict the older ones anyway.
+     */
+    void append(Logger.LogLevel level, String message) {
+        if (pending.size() == capacity) {
+            pending.removeFirst();
+        }
+        // Engine messages carry a trailing newline meant for the former text area
+        pending.addLast(new Entry(level, message.strip()));
+    }
+
+    /**
+     * Stops the frame pulse; queued messages are no longer shown afterwards.
+     */
+    void dispose() {
+        pulse.stop();
+    }
+
+    private void flush() {
+        if (pending.isEmpty()) return;
+
+        List<Entry> batch = new ArrayList<>(pending);
+        pending.clear();
+        entries.appendAll(batch);
+
+        // Follow the newest entry like the former text area did
+        if (!visibleEntries.isEmpty()) {
+            listView.scrollTo(visibleEntries.size() - 1);
+        }
+    }
+
+    private static String styleFor(Logger.LogLevel level) {
+        switch (level) {
+            case ERROR:
+                return "-fx-text-fill: #C62828;";
+            case WARNING:
+                return "-fx-text-fill: #E65100;";
+            case DEBUG:
+                return "-fx-text-fill: #757575;";
+            default:
+                return "";
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.project.controller;
+
+import com.project.engine.GardenEngine;
+import com.project.modules.InsectType;
+import com.project.modules.Plant;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Orientation;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import javafx.util.Duration;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Draws the garden grid on a single {@link Canvas}, painting only the cells inside the visible
+ * viewport. Clicks, right-clicks and hovering are hit-tested against the cell geometry, so the node
+ * count stays constant no matter how large the grid is.
+ *
+ * <p>Small grids are stretched to fill the available space like the former button grid; grids that
+ * do not fit at the minimum cell size get scroll bars.</p>
+ *
+ * <p>Repaints are coalesced: {@link #markDirty(int, int)} only records the cell, and an
+ * {@link AnimationTimer} repaints every dirty cell once per frame, however many times it changed
+ * in between. Scrolling and resizing request one full repaint for the next frame.</p>
+ */
+public final class GardenCanvas extends Region {
+
+    private static final double MIN_CELL_SIZE = 36;
+    private static final double MAX_CELL_SIZE = 120;
+    private static final double MAX_CELL_GAP = 8;
+    private static final double SCROLL_BAR_SIZE = 14;
+
+    private static final Color GRID_BACKGROUND = Color.web("#F1F8E9");
+    private static final Color EMPTY_FILL = Color.web("#A5D6A7");
+    private static final Color EMPTY_BORDER = Color.web("#81C784");
+    private static final Color EMPTY_HOVER_FILL = Color.web("#81C784");
+    private static final Color EMPTY_HOVER_BORDER = Color.web("#66BB6A");
+    private static final Color PLANTED_FILL = Color.web("#66BB6A");
+    private static final Color PLANTED_BORDER = Color.web("#43A047");
+    private static final Color PLANTED_HOVER_FILL = Color.web("#4CAF50");
+    private static final Color PLANTED_HOVER_BORDER = Color.web("#388E3C");
+
+    private static final InsectType[] INSECT_TYPES = InsectType.values();
+
+    /**
+     * Receives a cell the user interacted with.
+     */
+    @FunctionalInterface
+    public interface CellHandler {
+        void handle(int row, int col);
+    }
+
+    private final GardenEngine engine;
+    private final Canvas canvas = new Canvas();
+    private final ScrollBar horizontalScrollBar = new ScrollBar();
+    private final ScrollBar verticalScrollBar = new ScrollBar();
+    private final Tooltip tooltip = new Tooltip();
+    private PlantTooltipContent tooltipContent; // Built the first time the tooltip shows
+    private boolean tooltipInstalled = false;
+    private final ContextMenu contextMenu = new ContextMenu();
+
+    private CellHandler onCellClicked = (row, col) -> { };
+    private CellHandler onRemoveRequested = (row, col) -> { };
+
+    private double cellSize = MAX_CELL_SIZE;
+    private int hoveredRow = -1;
+    private int hoveredCol = -1;
+    private int contextRow = -1;
+    private int contextCol = -1;
+
+    // Cells (row * cols + col) changed since the last frame; only visible cells are recorded
+    private final Set<Integer> dirtyCells = new HashSet<>();
+    private boolean fullRedrawPending = true;
+    private boolean tooltipDirty = false;
+    private final AnimationTimer pulse = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+
+    /**
+     * @param engine The garden to draw.
+     */
+    public GardenCanvas(GardenEngine engine) {
+        this.engine = engine;
+
+        horizontalScrollBar.setOrientation(Orientation.HORIZONTAL);
+        verticalScrollBar.setOrientation(Orientation.VERTICAL);
+        horizontalScrollBar.valueProperty().addListener((obs, oldVal, newVal) -> requestRedraw());
+        verticalScrollBar.valueProperty().addListener((obs, oldVal, newVal) -> requestRedraw());
+        getChildren().addAll(canvas, horizontalScrollBar, verticalScrollBar);
+
+        tooltip.setStyle("-fx-background-color: white; -fx-font-size: 12px;");
+        tooltip.setShowDelay(Duration.millis(100));
+        tooltip.setHideDelay(Duration.millis(100));
+        tooltip.setOnShowing(e -> prepareTooltip());
+
+        MenuItem removeItem = new MenuItem("🗑️ Remove Plant");
+        removeItem.setStyle("-fx-font-size: 14px;");
+        removeItem.setOnAction(e -> onRemoveRequested.handle(contextRow, contextCol));
+        contextMenu.getItems().add(removeItem);
+
+        canvas.setOnMouseMoved(this::updateHover);
+        canvas.setOnMouseExited(e -> setHoveredCell(-1, -1));
+        canvas.setOnMouseClicked(e -> {
+            if (e.getButton() != MouseButton.PRIMARY) return;
+            int row = rowAt(e.getY());
+            int col = colAt(e.getX());
+            if (row >= 0 && col >= 0) {
+                onCellClicked.handle(row, col);
+            }
+        });
+        canvas.setOnContextMenuRequested(e -> {
+            int row = rowAt(e.getY());
+            int col = colAt(e.getX());
+            if (row >= 0 && col >= 0 && engine.getPlant(row, col) != null) {
+                contextRow = row;
+                contextCol = col;
+                contextMenu.show(canvas, e.getScreenX(), e.getScreenY());
+            }
+        });
+        canvas.setOnScroll(this::scroll);
+
+        pulse.start();
+    }
+
+    public void setOnCellClicked(CellHandler handler) {
+        this.onCellClicked = handler;
+    }
+
+    public void setOnRemoveRequested(CellHandler handler) {
+        this.onRemoveRequested = handler;
+    }
+
+    /**
+     * Schedules a cell for repainting on the next frame. Cheap enough to call on every change.
+     */
+    public void markDirty(int row, int col) {
+        if (!fullRedrawPending && isVisible(row, col)) {
+            dirtyCells.add(row * engine.getCols() + col);
+        }
+        if (row == hoveredRow && col == hoveredCol) {
+            tooltipDirty = true;
+        }
+    }
+
+    /**
+     * Schedules a repaint of the whole viewport on the next frame.
+     */
+    public void requestRedraw() {
+        fullRedrawPending = true;
+        dirtyCells.clear();
+    }
+
+    /**
+     * Stops the frame pulse; the canvas no longer repaints afterwards.
+     */
+    public void dispose() {
+        pulse.stop();
+    }
+
+    private void flush() {
+        if (fullRedrawPending) {
+            fullRedrawPending = false;
+            redraw();
+        } else if (!dirtyCells.isEmpty()) {
+            GraphicsContext gc = canvas.getGraphicsContext2D();
+            int cols = engine.getCols();
+            for (int cell : dirtyCells) {
+                drawCell(gc, cell / cols, cell % cols);
+            }
+            dirtyCells.clear();
+        }
+        if (tooltipDirty) {
+            tooltipDirty = false;
+            updateTooltip();
+        }
+    }
+
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(GRID_BACKGROUND);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        int firstRow = firstVisibleRow();
+        int lastRow = lastVisibleRow();
+        int firstCol = firstVisibleCol();
+        int lastCol = lastVisibleCol();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                drawCell(gc, row, col);
+            }
+        }
+    }
+
+    @Override
+    protected void layoutChildren() {
+        double width = getWidth() - snappedLeftInset() - snappedRightInset();
+        double height = getHeight() - snappedTopInset() - snappedBottomInset();
+        int rows = engine.getRows();
+        int cols = engine.getCols();
+
+        // Stretch small grids to fill the area, never below the minimum size
+        cellSize = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, Math.min(width / cols, height / rows)));
+        boolean needsHorizontal = cols * cellSize > width;
+        boolean needsVertical = rows * cellSize > height - (needsHorizontal ? SCROLL_BAR_SIZE : 0);
+        needsHorizontal = cols * cellSize > width - (needsVertical ? SCROLL_BAR_SIZE : 0);
+
+        double viewportWidth = Math.max(0, width - (needsVertical ? SCROLL_BAR_SIZE : 0));
+        double viewportHeight = Math.max(0, height - (needsHorizontal ? SCROLL_BAR_SIZE : 0));
+        double left = snappedLeftInset();
+        double top = snappedTopInset();
+
+        canvas.setLayoutX(left);
+        canvas.setLayoutY(top);
+        canvas.setWidth(viewportWidth);
+        canvas.setHeight(viewportHeight);
+
+        configureScrollBar(horizontalScrollBar, needsHorizontal, cols * cellSize, viewportWidth);
+        horizontalScrollBar.resizeRelocate(left, top + viewportHeight, viewportWidth, SCROLL_BAR_SIZE);
+        configureScrollBar(verticalScrollBar, needsVertical, rows * cellSize, viewportHeight);
+        verticalScrollBar.resizeRelocate(left + viewportWidth, top, SCROLL_BAR_SIZE, viewportHeight);
+
+        requestRedraw();
+    }
+
+    private void configureScrollBar(ScrollBar scrollBar, boolean needed, double contentSize, double viewportSize) {
+        scrollBar.setVisible(needed);
+        double max = needed ? contentSize - viewportSize : 0;
+        scrollBar.setMin(0);
+        scrollBar.setMax(max);
+        scrollBar.setVisibleAmount(needed ? max * viewportSize / contentSize : 0);
+        scrollBar.setUnitIncrement(cellSize);
+        scrollBar.setBlockIncrement(viewportSize);
+        scrollBar.setValue(Math.min(scrollBar.getValue(), max));
+    }
+
+    private void scroll(ScrollEvent e) {
+        if (verticalScrollBar.isVisible()) {
+            verticalScrollBar.setValue(clamp(verticalScrollBar.getValue() - e.getDeltaY(), verticalScrollBar.getMax()));
+        }
+        if (horizontalScrollBar.isVisible()) {
+            horizontalScrollBar.setValue(clamp(horizontalScrollBar.getValue() - e.getDeltaX(), horizontalScrollBar.getMax()));
+        }
+        e.consume();
+    }
+
+    private void drawCell(GraphicsContext gc, int row, int col) {
+        double x = col * cellSize - horizontalScrollBar.getValue();
+        double y = row * cellSize - verticalScrollBar.getValue();
+        double gap = Math.min(MAX_CELL_GAP, cellSize * 0.1);
+        double size = cellSize - gap;
+        double arc = Math.min(8, size * 0.15);
+
+        // Clear the slot first so partially transparent borders do not accumulate
+        gc.setFill(GRID_BACKGROUND);
+        gc.fillRect(x, y, cellSize, cellSize);
+
+        Plant plant = engine.getPlant(row, col);
+        boolean hovered = row == hoveredRow && col == hoveredCol;
+        if (plant == null) {
+            gc.setFill(hovered ? EMPTY_HOVER_FILL : EMPTY_FILL);
+            gc.setStroke(hovered ? EMPTY_HOVER_BORDER : EMPTY_BORDER);
+        } else {
+            gc.setFill(hovered ? PLANTED_HOVER_FILL : PLANTED_FILL);
+            gc.setStroke(hovered ? PLANTED_HOVER_BORDER : PLANTED_BORDER);
+        }
+        gc.setLineWidth(2);
+        gc.fillRoundRect(x + gap / 2, y + gap / 2, size, size, arc, arc);
+        gc.strokeRoundRect(x + gap / 2 + 1, y + gap / 2 + 1, size - 2, size - 2, arc, arc);
+
+        if (plant != null) {
+            gc.setFill(Color.BLACK);
+            gc.setFont(Font.font(Math.max(10, Math.min(24, cellSize * 0.2))));
+            gc.setTextAlign(TextAlignment.CENTER);
+            gc.setTextBaseline(VPos.CENTER);
+            gc.fillText(cellText(row, col, plant), x + cellSize / 2, y + cellSize / 2, size - 4);
+        }
+    }
+
+    /**
+     * @return The plant emoji followed by the insects, watering and pest control markers.
+     */
+    private String cellText(int row, int col, Plant plant) {
+        StringBuilder text = new StringBuilder();
+        text.append(plant.getPlantType().getEmoji());
+
+        int infestation = engine.getInfestation(row, col);
+        if (infestation != 0) {
+            for (InsectType insect : INSECT_TYPES) {
+                if ((infestation & insect.bit()) != 0) text.append(insect.getEmoji());
+            }
+        }
+
+        if (engine.isWatering(row, col)) text.append("💧");
+        if (engine.isUnderPestControl(row, col)) text.append("🧴");
+        return text.toString();
+    }
+
+    private void updateHover(MouseEvent e) {
+        setHoveredCell(rowAt(e.getY()), colAt(e.getX()));
+    }
+
+    private void setHoveredCell(int row, int col) {
+        if (col < 0) row = -1;
+        if (row < 0) col = -1;
+        if (row == hoveredRow && col == hoveredCol) return;
+
+        int previousRow = hoveredRow;
+        int previousCol = hoveredCol;
+        hoveredRow = row;
+        hoveredCol = col;
+        if (previousRow >= 0) {
+            markDirty(previousRow, previousCol);
+        }
+        if (row >= 0) {
+            markDirty(row, col);
+        }
+        tooltipDirty = true;
+    }
+
+    /**
+     * Installs the tooltip while a plant is hovered and keeps a showing tooltip in sync with it.
+     * Content is only touched when the tooltip is actually visible.
+     */
+    private void updateTooltip() {
+        Plant plant = hoveredPlant();
+        if (plant == null) {
+            if (tooltipInstalled) {
+                Tooltip.uninstall(canvas, tooltip);
+                tooltip.hide();
+                tooltipInstalled = false;
+            }
+        } else {
+            if (!tooltipInstalled) {
+                Tooltip.install(canvas, tooltip);
+                tooltipInstalled = true;
+            }
+            if (tooltip.isShowing()) {
+                tooltipContent.update(plant);
+            }
+        }
+    }
+
+    /**
+     * Binds the shared content node to the hovered plant right before the tooltip appears,
+     * building it on first use.
+     */
+    private void prepareTooltip() {
+        Plant plant = hoveredPlant();
+        if (plant == null) return;
+        if (tooltipContent == null) {
+            tooltipContent = new PlantTooltipContent();
+            tooltip.setGraphic(tooltipContent);
+        }
+        tooltipContent.update(plant);
+    }
+
+    private Plant hoveredPlant() {
+        return hoveredRow >= 0 ? engine.getPlant(hoveredRow, hoveredCol) : null;
+    }
+
+    private int rowAt(double y) {
+        if (y < 0 || y >= canvas.getHeight()) return -1;
+        int row = (int) ((y + verticalScrollBar.getValue()) / cellSize);
+        return row < engine.getRows() ? row : -1;
+    }
+
+    private int colAt(double x) {
+        if (x < 0 || x >= canvas.getWidth()) return -1;
+        int col = (int) ((x + horizontalScrollBar.getValue()) / cellSize);
+        return col < engine.getCols() ? col : -1;
+    }
+
+    private boolean isVisible(int row, int col) {
+        return row >= firstVisibleRow() && row <= lastVisibleRow() &&
+            col >= firstVisibleCol() && col <= lastVisibleCol();
+    }
+
+    private int firstVisibleRow() {
+        return (int) (verticalScrollBar.getValue() / cellSize);
+    }
+
+    private int lastVisibleRow() {
+        return Math.min(engine.getRows() - 1, (int) ((verticalScrollBar.getValue() + canvas.getHeight()) / cellSize));
+    }
+
+    private int firstVisibleCol() {
+        return (int) (horizontalScrollBar.getValue() / cellSize);
+    }
+
+    private int lastVisibleCol() {
+        return Math.min(engine.getCols() - 1, (int) ((horizontalScrollBar.getValue() + canvas.getWidth()) / cellSize));
+    }
+
+    private static double clamp(double value, double max) {
+        return Math.max(0, Math.min(max, value));
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.controller;
+
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Observable list of the most recent entries, backed by a fixed-size ring buffer. Appending to a
+ * full buffer evicts the oldest entries, so memory stays constant however long the simulation runs.
+ * Each {@link #appendAll(List)} fires a single change event for the whole batch.
+ *
+ * @param <E> The entry type.
+ */
+class LogRingBuffer<E> extends ObservableListBase<E> {
+
+    private final Object[] entries;
+    private int head = 0; // Index of the oldest entry
+    private int size = 0;
+
+    /**
+     * @param capacity The maximum number of entries kept.
+     */
+    LogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.entries = new Object[capacity];
+    }
+
+    int getCapacity() {
+        return entries.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + size);
+        }
+        return (E) entries[(head + index) % entries.length];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a batch of entries, evicting the oldest ones if the buffer overflows.
+     */
+    @SuppressWarnings("unchecked")
+    void appendAll(List<E> batch) {
+        if (batch.isEmpty()) return;
+
+        // A batch larger than the buffer only contributes its newest entries
+        List<E> added = batch.size() > entries.length ? batch.subList(batch.size() - entries.length, batch.size()) : batch;
+        int evicted = Math.max(0, size + added.size() - entries.length);
+
+        beginChange();
+        try {
+            if (evicted > 0) {
+                List<E> removed = new ArrayList<>(evicted);
+                for (int i = 0; i < evicted; i++) {
+                    int slot = (head + i) % entries.length;
+                    removed.add((E) entries[slot]);
+                    entries[slot] = null;
+                }
+                head = (head + evicted) % entries.length;
+                size -= evicted;
+                nextRemove(0, removed);
+            }
+
+            int from = size;
+            for (E entry : added) {
+                entries[(head + size) % entries.length] = entry;
+                size++;
+            }
+            nextAdd(from, size);
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.controller;
+
+import com.project.modules.Plant;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Tooltip content showing a plant's name, health and water level. One instance is built the first
+ * time a tooltip is shown and then re-bound to whichever plant is hovered, so cell updates never
+ * allocate tooltip nodes.
+ */
+class PlantTooltipContent extends VBox {
+
+    private final Label nameLabel = new Label();
+    private final StatusBar healthBar = new StatusBar("Health");
+    private final StatusBar waterBar = new StatusBar("Water");
+
+    PlantTooltipContent() {
+        super(5);
+        setPadding(new Insets(5));
+        setStyle("-fx-background-color: white;");
+
+        // Plant name and type
+        nameLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 14px;");
+        getChildren().addAll(nameLabel, healthBar, waterBar);
+    }
+
+    /**
+     * Shows the current state of the given plant.
+     */
+    void update(Plant plant) {
+        nameLabel.setText(plant.getName());
+
+        int health = plant.getHealth();
+        healthBar.update(health,
+            health >= 80 ? "#4CAF50" :  // Green for good health
+            health >= 50 ? "#FFA726" :  // Orange for medium health
+            "#F44336"                   // Red for low health
+        );
+
+        int water = plant.getCurrentWaterLevel();
+        waterBar.update(water,
+            water >= 80 ? "#2196F3" :  // Blue for high water
+            water >= 50 ? "#64B5F6" :  // Light blue for medium water
+            "#90CAF9"                  // Very light blue for low water
+        );
+    }
+
+    /**
+     * Labelled percentage bar whose fill and text are updated in place.
+     */
+    private static class StatusBar extends VBox {
+
+        private static final double BAR_WIDTH = 150;
+
+        private final Rectangle foreground = new Rectangle(0, 20);
+        private final Label percentageLabel = new Label();
+        private String color;
+
+        StatusBar(String label) {
+            super(5);  // Increased spacing between elements
+
+            // Create status text label
+            Label statusLabel = new Label(label);
+            statusLabel.setStyle("-fx-font-size: 12px; -fx-font-weight: bold; -fx-text-fill: #2E7D32;");
+
+            // Create the progress bar container
+            StackPane barContainer = new StackPane();
+            barContainer.setMinHeight(20);
+            barContainer.setMaxHeight(20);
+            barContainer.setMinWidth(BAR_WIDTH);
+            barContainer.setPadding(new Insets(0, 5, 0, 5));
+
+            // Background of the bar
+            Rectangle background = new Rectangle(BAR_WIDTH, 20);
+            background.setFill(Color.LIGHTGRAY);
+            background.setArcWidth(10);
+            background.setArcHeight(10);
+
+            // Foreground (filled portion) of the bar
+            foreground.setArcWidth(10);
+            foreground.setArcHeight(10);
+
+            // Percentage text with background for better visibility
+            percentageLabel.setStyle("-fx-font-size: 11px; -fx-font-weight: bold; -fx-text-fill: white; " +
+                                   "-fx-padding: 2 5 2 5; -fx-background-radius: 5;");
+
+            StackPane.setAlignment(foreground, Pos.CENTER_LEFT);
+            StackPane.setAlignment(percentageLabel, Pos.CENTER);
+
+            // Add drop shadow effect to the bar
+            barContainer.setStyle("-fx-effect: dropshadow(gaussian, rgba(0,0,0,0.2), 4, 0, 0, 0);");
+            barContainer.getChildren().addAll(background, foreground, percentageLabel);
+
+            getChildren().addAll(statusLabel, barContainer);
+        }
+
+        void update(int percentage, String color) {
+            foreground.setWidth(percentage * BAR_WIDTH / 100);
+            percentageLabel.setText(percentage + "%");
+            if (!color.equals(this.color)) {
+                this.color = color;
+                foreground.setFill(Color.web(color));
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.modules.Plant;
+
+/**
+ * The engine's view of its cells, read by the {@link MappedStateStore} when it syncs and by
+ * {@link GardenSnapshot} when a snapshot is taken. A cell is {@code row * cols + col}.
+ */
+interface CellReader {
+
+    /**
+     * @return The plant of the cell, or {@code null} if it is empty; only valid until the next
+     * call, see {@link PlantStore#peek}.
+     */
+    Plant plantAt(int cell);
+
+    /**
+     * @return The spec the plant of a planted cell was created from.
+     */
+    PlantSpec specAt(int cell);
+
+    /**
+     * @return The {@link com.project.modules.InsectType} bitmask of the insects infesting the cell.
+     */
+    int infestationAt(int cell);
+
+    /**
+     * @return True if the plant of the cell is recovering from a pest control treatment.
+     */
+    boolean isRecovering(int cell);
+}
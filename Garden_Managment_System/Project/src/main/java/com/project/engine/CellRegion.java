@@ -0,0 +1,32 @@
+package com.project.engine;
+
+/**
+ * Rectangular block of grid cells.
+ *
+ * @param row  The first row.
+ * @param col  The first column.
+ * @param rows The number of rows (at least 1).
+ * @param cols The number of columns (at least 1).
+ */
+public record CellRegion(int row, int col, int rows, int cols) {
+
+    public CellRegion {
+        if (row < 0 || col < 0 || rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Invalid region: " + rows + "x" + cols + " at (" + row + ", " + col + ")");
+        }
+    }
+
+    /**
+     * @return The row after the last row of the region.
+     */
+    public int endRow() {
+        return row + rows;
+    }
+
+    /**
+     * @return The column after the last column of the region.
+     */
+    public int endCol() {
+        return col + cols;
+    }
+}
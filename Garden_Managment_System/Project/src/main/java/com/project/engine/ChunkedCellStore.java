@@ -0,0 +1,217 @@
+package com.project.engine;
+
+/**
+ * Sparse grid of cell values stored in square chunks of {@value #CHUNK_SIZE} x {@value #CHUNK_SIZE}
+ * cells. A chunk is allocated when its first cell is set and released when its last cell is
+ * cleared, so memory and iteration time follow the number of occupied cells rather than the area
+ * of the grid.
+ *
+ * <p>Iteration visits chunks in row-major chunk order and the cells of a chunk in row-major order.
+ * That order is stable for a given content, which the engine relies on for deterministic ticks.
+ * Not thread-safe; concurrent reads are fine as long as nobody writes.</p>
+ *
+ * @param <T> The cell value type.
+ */
+public class ChunkedCellStore<T> {
+
+    /**
+     * Edge length of a chunk, in cells.
+     */
+    public static final int CHUNK_SIZE = 64;
+
+    private static final int CHUNK_SHIFT = 6; // log2(CHUNK_SIZE)
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final int rows;
+    private final int cols;
+    private final int chunkCols;
+    private final Chunk[] chunks;
+    private int size = 0;
+    private int allocatedChunks = 0;
+
+    /**
+     * Receives the occupied cells of the store.
+     */
+    @FunctionalInterface
+    public interface CellVisitor<T> {
+        void visit(int row, int col, T value);
+    }
+
+    private static final class Chunk {
+        final Object[] cells = new Object[CHUNK_SIZE * CHUNK_SIZE];
+        int size = 0;
+    }
+
+    /**
+     * @param rows The number of rows of the grid.
+     * @param cols The number of columns of the grid.
+     * @throws IllegalArgumentException if a dimension is not positive or the grid has more than
+     *                                  {@code Integer.MAX_VALUE} cells.
+     */
+    public ChunkedCellStore(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive: " + rows + "x" + cols);
+        }
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid too large: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.chunkCols = (cols + CHUNK_MASK) >>> CHUNK_SHIFT;
+        int chunkRows = (rows + CHUNK_MASK) >>> CHUNK_SHIFT;
+        this.chunks = new Chunk[chunkRows * chunkCols];
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return The number of occupied cells.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The number of chunk slots, allocated or not. Chunk indices run from 0 to this value.
+     */
+    public int getChunkSlotCount() {
+        return chunks.length;
+    }
+
+    /**
+     * @return The number of chunks currently allocated.
+     */
+    public int getAllocatedChunkCount() {
+        return allocatedChunks;
+    }
+
+    /**
+     * @return The value of the cell, or {@code null} if it is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int row, int col) {
+        checkBounds(row, col);
+        Chunk chunk = chunks[chunkIndex(row, col)];
+        return chunk == null ? null : (T) chunk.cells[offset(row, col)];
+    }
+
+    public boolean contains(int row, int col) {
+        return get(row, col) != null;
+    }
+
+    /**
+     * Sets the value of a cell, allocating its chunk if needed.
+     *
+     * @param value The new value; must not be {@code null} (use {@link #remove(int, int)}).
+     * @return The previous value, or {@code null} if the cell was empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T put(int row, int col, T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Cell value must not be null");
+        }
+        checkBounds(row, col);
+        int chunkIndex = chunkIndex(row, col);
+        Chunk chunk = chunks[chunkIndex];
+        if (chunk == null) {
+            chunk = new Chunk();
+            chunks[chunkIndex] = chunk;
+            allocatedChunks++;
+        }
+        int offset = offset(row, col);
+        T previous = (T) chunk.cells[offset];
+        chunk.cells[offset] = value;
+        if (previous == null) {
+            chunk.size++;
+            size++;
+        }
+        return previous;
+    }
+
+    /**
+     * Clears a cell, releasing its chunk if it was the last occupied cell in it.
+     *
+     * @return The removed value, or {@code null} if the cell was empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int row, int col) {
+        checkBounds(row, col);
+        int chunkIndex = chunkIndex(row, col);
+        Chunk chunk = chunks[chunkIndex];
+        if (chunk == null) return null;
+
+        int offset = offset(row, col);
+        T previous = (T) chunk.cells[offset];
+        if (previous != null) {
+            chunk.cells[offset] = null;
+            size--;
+            if (--chunk.size == 0) {
+                chunks[chunkIndex] = null;
+                allocatedChunks--;
+            }
+        }
+        return previous;
+    }
+
+    /**
+     * Visits every occupied cell, skipping unallocated chunks.
+     */
+    public void forEach(CellVisitor<? super T> visitor) {
+        forEachInChunks(0, chunks.length, visitor);
+    }
+
+    /**
+     * Visits the occupied cells of the chunks with index {@code [fromChunk, toChunk)}. Splitting the
+     * chunk range into consecutive pieces and concatenating the visits gives the same order as
+     * {@link #forEach(CellVisitor)}.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachInChunks(int fromChunk, int toChunk, CellVisitor<? super T> visitor) {
+        for (int chunkIndex = fromChunk; chunkIndex < toChunk; chunkIndex++) {
+            Chunk chunk = chunks[chunkIndex];
+            if (chunk == null) continue;
+
+            int firstRow = (chunkIndex / chunkCols) << CHUNK_SHIFT;
+            int firstCol = (chunkIndex % chunkCols) << CHUNK_SHIFT;
+            int remaining = chunk.size;
+            for (int offset = 0; offset < chunk.cells.length && remaining > 0; offset++) {
+                Object value = chunk.cells[offset];
+                if (value == null) continue;
+                remaining--;
+                visitor.visit(firstRow + (offset >>> CHUNK_SHIFT), firstCol + (offset & CHUNK_MASK), (T) value);
+            }
+        }
+    }
+
+    /**
+     * @return The number of occupied cells in the chunk, 0 if it is not allocated.
+     */
+    public int getChunkSize(int chunkIndex) {
+        Chunk chunk = chunks[chunkIndex];
+        return chunk == null ? 0 : chunk.size;
+    }
+
+    private int chunkIndex(int row, int col) {
+        return (row >>> CHUNK_SHIFT) * chunkCols + (col >>> CHUNK_SHIFT);
+    }
+
+    private static int offset(int row, int col) {
+        return ((row & CHUNK_MASK) << CHUNK_SHIFT) | (col & CHUNK_MASK);
+    }
+
+    private void checkBounds(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Cell (" + row + ", " + col + ") outside " + rows + "x" + cols + " grid");
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.project.engine;
+
+import com.project.logger.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Latency and throughput figures of a {@link GardenEngine}: a latency histogram per simulation
+ * phase and per scheduler event, plus live gauges (event rate, scheduler and dispatch backlog,
+ * timers, plants, log queue).
+ *
+ * <p>The figures can be published as MBeans under {@code com.project:type=Garden,name=<name>} and
+ * are part of the engine's performance report. Gauges read simulation state without
+ * synchronization, so off the simulation thread they may lag slightly behind.</p>
+ */
+public class EngineMetrics implements EngineMetricsMXBean {
+
+    /**
+     * The timed phases of the simulation.
+     */
+    public enum Phase {
+        WATER_REDUCTION("Water Reduction"),
+        INSECT_ATTACK("Insect Attack"),
+        PEST_CONTROL("Pest Control"),
+        STATE_REPORT("State Report");
+
+        private final String displayName;
+
+        Phase(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    private final GardenEngine engine;
+    private final EventScheduler scheduler;
+    private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+    private final List<ObjectName> registeredNames = new ArrayList<>();
+
+    // Event rate, computed from the event count at two readings
+    private long rateSampleNanos = System.nanoTime();
+    private long rateSampleEvents = 0;
+    private double eventsPerSecond = 0;
+
+    EngineMetrics(GardenEngine engine, EventScheduler scheduler) {
+        this.engine = engine;
+        this.scheduler = scheduler;
+        for (Phase phase : Phase.values()) {
+            phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * @return The durations of the given phase.
+     */
+    public LatencyHistogram getLatency(Phase phase) {
+        return phases.get(phase);
+    }
+
+    /**
+     * @return The durations of single scheduler events, whatever they do.
+     */
+    public LatencyHistogram getEventLatency() {
+        return scheduler.getEventDurations();
+    }
+
+    @Override
+    public synchronized double getEventsPerSecond() {
+        long now = System.nanoTime();
+        long events = scheduler.getExecutedEventCount();
+        if (now - rateSampleNanos >= RATE_WINDOW_NANOS) {
+            eventsPerSecond = (events - rateSampleEvents) * 1e9 / (now - rateSampleNanos);
+            rateSampleNanos = now;
+            rateSampleEvents = events;
+        }
+        return eventsPerSecond;
+    }
+
+    @Override
+    public long getExecutedEventCount() {
+        return scheduler.getExecutedEventCount();
+    }
+
+    @Override
+    public int getPendingEventCount() {
+        return scheduler.getPendingEventCount();
+    }
+
+    @Override
+    public int getDispatchBacklog() {
+        return scheduler.getDispatchBacklog();
+    }
+
+    @Override
+    public int getLivePlantTimerCount() {
+        return engine.getLivePlantTimerCount();
+    }
+
+    @Override
+    public int getPlantCount() {
+        return engine.getPlantCount();
+    }
+
+    @Override
+    public int getDaysElapsed() {
+        return engine.getDaysElapsed();
+    }
+
+    @Override
+    public int getLogQueueDepth() {
+        return Logger.getQueueDepth();
+    }
+
+    @Override
+    public long getDroppedLogEntryCount() {
+        return Logger.getDroppedCount();
+    }
+
+    /**
+     * Publishes the metrics on the platform MBean server. Failures are logged, never thrown: a
+     * garden without metrics still works.
+     *
+     * @param name The garden name used in the object names.
+     */
+    public synchronized void registerMBeans(String name) {
+        unregisterMBeans();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        String prefix = "com.project:type=Garden,name=" + ObjectName.quote(name);
+        try {
+            register(server, new ObjectName(prefix), this);
+            register(server, new ObjectName(prefix + ",phase=EVENT"), getEventLatency());
+            for (Map.Entry<Phase, LatencyHistogram> entry : phases.entrySet()) {
+                register(server, new ObjectName(prefix + ",phase=" + entry.getKey().name()), entry.getValue());
+            }
+        } catch (JMException e) {
+            Logger.log(Logger.LogLevel.WARNING, "Could not register the garden metrics MBeans: " + e.getMessage());
+        }
+    }
+
+    private void register(MBeanServer server, ObjectName objectName, Object mbean) throws JMException {
+        server.registerMBean(mbean, objectName);
+        registeredNames.add(objectName);
+    }
+
+    /**
+     * Removes the MBeans published by {@link #registerMBeans(String)}, if any.
+     */
+    public synchronized void unregisterMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName objectName : registeredNames) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                Logger.log(Logger.LogLevel.WARNING, "Could not unregister MBean " + objectName + ": " + e.getMessage());
+            }
+        }
+        registeredNames.clear();
+    }
+
+    /**
+     * Appends the metrics section of the performance report.
+     */
+    void appendReport(StringBuilder report) {
+        report.append("\nPerformance Metrics:\n");
+        appendLatency(report, "Scheduler Event", getEventLatency());
+        for (Map.Entry<Phase, LatencyHistogram> entry : phases.entrySet()) {
+            appendLatency(report, entry.getKey().getDisplayName(), entry.getValue());
+        }
+        report.append("- Events per Second: ").append(String.format("%.1f", getEventsPerSecond())).append("\n");
+        report.append("- Pending Events: ").append(getPendingEventCount())
+            .append(" (dispatch backlog ").append(getDispatchBacklog()).append(")\n");
+        report.append("- Log Queue Depth: ").append(getLogQueueDepth())
+            .append(" (dropped ").append(getDroppedLogEntryCount()).append(")\n");
+    }
+
+    private static void appendLatency(StringBuilder report, String label, LatencyHistogram latency) {
+        report.append("- ").append(label).append(": ").append(latency.getCount()).append(" runs");
+        if (latency.getCount() > 0) {
+            report.append(String.format(", p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+                latency.getP50Millis(), latency.getP99Millis(), latency.getMaxMillis()));
+        }
+        report.append("\n");
+    }
+}
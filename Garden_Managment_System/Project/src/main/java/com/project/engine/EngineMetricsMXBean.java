@@ -0,0 +1,38 @@
+package com.project.engine;
+
+/**
+ * Management interface of the {@link EngineMetrics} of a garden. The per-phase latencies are
+ * published as separate {@link LatencyHistogramMXBean}s.
+ */
+public interface EngineMetricsMXBean {
+
+    /**
+     * @return The simulation events run per real second since the previous reading (at least one second ago).
+     */
+    double getEventsPerSecond();
+
+    long getExecutedEventCount();
+
+    /**
+     * @return The number of events waiting in the scheduler queue.
+     */
+    int getPendingEventCount();
+
+    /**
+     * @return The number of due events waiting for the simulation executor (the JavaFX {@code runLater} backlog).
+     */
+    int getDispatchBacklog();
+
+    int getLivePlantTimerCount();
+
+    int getPlantCount();
+
+    int getDaysElapsed();
+
+    /**
+     * @return The number of log entries waiting for the asynchronous log writer.
+     */
+    int getLogQueueDepth();
+
+    long getDroppedLogEntryCount();
+}
@@ -0,0 +1,284 @@
+package com.project.engine;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Discrete-event scheduler: a priority queue of timestamped {@link ScheduledEvent}s drained by a
+ * single loop thread. Due events are handed to the dispatch executor strictly in (time, scheduling
+ * order), which makes the order of simulation events deterministic and replaces one sleeping
+ * thread per timer.
+ *
+ * <p>Timestamps are simulated milliseconds of a {@link SimulationClock}. At a finite speed the loop
+ * waits the corresponding real time; when the clock runs as fast as possible it jumps the clock to
+ * each event and waits for the event to finish before moving on. {@link #runUntil(long)} drains the
+ * queue synchronously on the calling thread without a loop thread at all.</p>
+ */
+public class EventScheduler {
+
+    private static final long STOP_TIMEOUT_MILLIS = 5_000;
+
+    private final Executor dispatchExecutor;
+    private final SimulationClock clock;
+    private final PriorityQueue<ScheduledEvent> queue = new PriorityQueue<>();
+    private long nextSequence = 0;
+    private Thread loopThread;
+    private volatile boolean running;
+    private final AtomicLong executedEvents = new AtomicLong();
+    private final AtomicInteger dispatchBacklog = new AtomicInteger(); // Handed to the executor, not yet run
+    private final LatencyHistogram eventDurations = new LatencyHistogram();
+
+    /**
+     * @param dispatchExecutor The executor due events are run on.
+     * @param clock            The simulated time source.
+     */
+    public EventScheduler(Executor dispatchExecutor, SimulationClock clock) {
+        this.dispatchExecutor = dispatchExecutor;
+        this.clock = clock;
+    }
+
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    /**
+     * @return The current simulated time in milliseconds.
+     */
+    public long now() {
+        return clock.now();
+    }
+
+    /**
+     * Changes the clock speed and wakes the loop so pending waits are recomputed.
+     *
+     * @param speed Simulated milliseconds per real millisecond, or
+     *              {@link SimulationClock#AS_FAST_AS_POSSIBLE}.
+     */
+    public synchronized void setSpeed(double speed) {
+        clock.setSpeed(speed);
+        notifyAll();
+    }
+
+    /**
+     * Schedules a one-shot event.
+     *
+     * @param delayMillis Delay from now, in simulated milliseconds.
+     * @param action      The action to run.
+     * @return The scheduled event, which can be cancelled.
+     */
+    public ScheduledEvent schedule(long delayMillis, Runnable action) {
+        return enqueue(new ScheduledEvent(now() + delayMillis, 0, action));
+    }
+
+    /**
+     * Schedules an event that fires every {@code periodMillis} after an initial delay.
+     *
+     * @param initialDelayMillis Delay before the first firing, in simulated milliseconds.
+     * @param periodMillis       Interval between firings, in simulated milliseconds.
+     * @param action             The action to run.
+     * @return The scheduled event, which can be cancelled.
+     */
+    public ScheduledEvent scheduleAtFixedRate(long initialDelayMillis, long periodMillis, Runnable action) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Period must be positive: " + periodMillis);
+        }
+        return enqueue(new ScheduledEvent(now() + initialDelayMillis, periodMillis, action));
+    }
+
+    /**
+     * @return The number of queued events, including cancelled ones not yet discarded.
+     */
+    public synchronized int getPendingEventCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return The number of events run so far; may be called from any thread.
+     */
+    public long getExecutedEventCount() {
+        return executedEvents.get();
+    }
+
+    /**
+     * @return The number of due events handed to the dispatch executor that have not run yet, e.g.
+     * waiting in the JavaFX {@code runLater} queue; may be called from any thread.
+     */
+    public int getDispatchBacklog() {
+        return dispatchBacklog.get();
+    }
+
+    /**
+     * @return The run times of the events.
+     */
+    public LatencyHistogram getEventDurations() {
+        return eventDurations;
+    }
+
+    /**
+     * Starts the loop thread.
+     */
+    public synchronized void start() {
+        if (loopThread != null) return;
+        running = true;
+        loopThread = new Thread(this::runLoop, "garden-event-loop");
+        loopThread.setDaemon(true);
+        loopThread.start();
+    }
+
+    /**
+     * Stops the loop thread, discards all pending events and waits for the loop thread to finish
+     * the dispatch it may be in. The scheduler can be started again afterwards.
+     */
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            queue.clear();
+            notifyAll();
+            thread = loopThread;
+            loopThread = null;
+        }
+        if (thread == null || thread == Thread.currentThread()) return;
+        // Wakes a loop blocked on a fast-forward dispatch that the stopping thread would have to run
+        thread.interrupt();
+        try {
+            thread.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs every event due up to the given simulated time on the calling thread, advancing the
+     * clock to each event's timestamp, and finally to {@code simulatedMillis}. Must be called on
+     * the simulation thread while the loop thread is not running.
+     *
+     * @param simulatedMillis The simulated time to run to.
+     */
+    public void runUntil(long simulatedMillis) {
+        if (running) {
+            throw new IllegalStateException("runUntil() cannot be used while the event loop is running");
+        }
+        ScheduledEvent event;
+        while ((event = pollDue(simulatedMillis)) != null) {
+            runEvent(event);
+        }
+        clock.advanceTo(simulatedMillis);
+    }
+
+    private synchronized ScheduledEvent enqueue(ScheduledEvent event) {
+        event.sequence = nextSequence++;
+        queue.add(event);
+        // Wake the loop in case the new event is due before the one it is waiting for
+        notifyAll();
+        return event;
+    }
+
+    /**
+     * Removes the next live event due at or before the given time, re-queues it if periodic and
+     * jumps the clock to its timestamp.
+     */
+    private synchronized ScheduledEvent pollDue(long simulatedMillis) {
+        ScheduledEvent event;
+        while ((event = queue.peek()) != null && event.time <= simulatedMillis) {
+            queue.poll();
+            if (event.isCancelled()) continue;
+            clock.advanceTo(event.time);
+            requeueIfPeriodic(event);
+            return event;
+        }
+        return null;
+    }
+
+    private void requeueIfPeriodic(ScheduledEvent event) {
+        if (event.isPeriodic()) {
+            event.time += event.period;
+            event.sequence = nextSequence++;
+            queue.add(event);
+        }
+    }
+
+    private void runLoop() {
+        while (running) {
+            ScheduledEvent event;
+            boolean fastForward;
+            synchronized (this) {
+                // A restart after a timed-out stop() must not leave two loops draining the queue
+                if (loopThread != Thread.currentThread()) return;
+                event = queue.peek();
+                fastForward = clock.isAsFastAsPossible();
+                try {
+                    if (event == null) {
+                        wait();
+                        continue;
+                    }
+                    long delay = clock.toRealMillis(event.time - now());
+                    if (delay > 0) {
+                        wait(delay);
+                        continue;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                queue.poll();
+                if (event.isCancelled()) continue;
+                clock.advanceTo(event.time);
+                requeueIfPeriodic(event);
+            }
+
+            if (fastForward) {
+                dispatchAndWait(event);
+            } else {
+                dispatch(event);
+            }
+        }
+    }
+
+    private void dispatch(ScheduledEvent event) {
+        dispatchBacklog.incrementAndGet();
+        dispatchExecutor.execute(() -> {
+            dispatchBacklog.decrementAndGet();
+            // The event may have been cancelled while waiting on the dispatch executor
+            if (running && !event.isCancelled()) {
+                runEvent(event);
+            }
+        });
+    }
+
+    /**
+     * Dispatches an event and blocks until it has run, so the clock cannot race ahead of events
+     * that schedule follow-ups relative to the current time.
+     */
+    private void dispatchAndWait(ScheduledEvent event) {
+        CountDownLatch done = new CountDownLatch(1);
+        dispatchBacklog.incrementAndGet();
+        dispatchExecutor.execute(() -> {
+            dispatchBacklog.decrementAndGet();
+            try {
+                if (running && !event.isCancelled()) {
+                    runEvent(event);
+                }
+            } finally {
+                done.countDown();
+            }
+        });
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private void runEvent(ScheduledEvent event) {
+        long startNanos = System.nanoTime();
+        event.action.run();
+        eventDurations.recordSince(startNanos);
+        executedEvents.incrementAndGet();
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.engine;
+
+import com.project.logger.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Saves the garden in the background every few seconds of wall-clock time. Only the capture runs
+ * on the simulation thread, and it costs no more than taking a {@link GardenSnapshot}; encoding and
+ * writing the file happen on the autosave thread, so the simulation never waits for the disk.
+ */
+public class GardenAutosave {
+
+    private final GardenEngine engine;
+    private final Path file;
+    private final long intervalMillis;
+    private final AtomicBoolean saving = new AtomicBoolean(); // A save is captured or being written
+    private volatile ScheduledExecutorService executor;
+
+    /**
+     * @param engine         The engine to save.
+     * @param file           The save file, replaced on every save.
+     * @param intervalMillis Wall-clock time between saves.
+     */
+    public GardenAutosave(GardenEngine engine, Path file, long intervalMillis) {
+        if (intervalMillis <= 0) {
+            throw new IllegalArgumentException("Autosave interval must be positive: " + intervalMillis);
+        }
+        this.engine = engine;
+        this.file = file;
+        this.intervalMillis = intervalMillis;
+    }
+
+    public synchronized void start() {
+        if (executor != null) return;
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "garden-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::requestSave, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops autosaving and waits for a save in progress to finish writing.
+     */
+    public synchronized void stop() {
+        if (executor == null) return;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+    }
+
+    /**
+     * Captures the garden on the simulation thread and hands the data back to the autosave thread.
+     * Skipped while the previous save is still in flight.
+     */
+    private void requestSave() {
+        if (!saving.compareAndSet(false, true)) return;
+        engine.getScheduler().schedule(0, () -> {
+            GardenSaveData data;
+            try {
+                data = engine.captureSaveData();
+            } catch (RuntimeException e) {
+                saving.set(false);
+                throw e;
+            }
+            ScheduledExecutorService target = executor;
+            try {
+                if (target == null) throw new RejectedExecutionException();
+                target.execute(() -> write(data));
+            } catch (RejectedExecutionException e) {
+                saving.set(false); // Stopped meanwhile
+            }
+        });
+    }
+
+    private void write(GardenSaveData data) {
+        try {
+            GardenSaveFile.write(data, file);
+        } catch (IOException e) {
+            Logger.log(Logger.LogLevel.WARNING, "Autosave to " + file + " failed: " + e.getMessage());
+        } finally {
+            saving.set(false);
+        }
+    }
+}
@@ -0,0 +1,1507 @@
+package com.project.engine;
+
+import com.project.factory.PlantFactory;
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.logger.Logger;
+import com.project.modules.Insect;
+import com.project.modules.InsectType;
+import com.project.modules.Plant;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * UI-free garden simulation. Owns the grid, the plants, the insects, the temperature and the
+ * water/pest/recovery rules. Front ends observe it through a {@link GardenListener} and drive it
+ * through the public command methods.
+ *
+ * <p>All state is confined to the simulation executor passed at construction time: commands must be
+ * called on it, and every timer is an event of a single {@link EventScheduler} whose due events are
+ * dispatched to it. The JavaFX client passes {@code Platform::runLater}; a headless client can pass
+ * a single-threaded executor.</p>
+ */
+public final class GardenEngine {
+
+    /**
+     * Where the engine keeps the state of its plants.
+     */
+    public enum PlantStorage {
+        /**
+         * One {@link Plant} object per planted cell.
+         */
+        HEAP,
+        /**
+         * Plain native memory per cell, read through flyweight plants; the tick allocates nothing
+         * per plant and its working buffers are sized to a chunk, not to the garden. The heap still
+         * grows with the garden by each plant's entry in the snapshots (a spec reference and an
+         * int), its live per-plant timers, a change mark per {@value GardenSnapshot#CHUNK_SIZE}
+         * cells, and the copy of the planted cells made by commands that visit every plant, such
+         * as {@link #waterAll}.
+         */
+        OFF_HEAP
+    }
+
+    private static final int PERFORMANCE_CHECK_INTERVAL = 24; // Check performance every 24 days
+
+    // Timer intervals in milliseconds
+    private static final long WATER_REDUCTION_INTERVAL = 30_000;
+    private static final long DAY_LENGTH = 3_600_000; // 1 hour of simulated time (real time at speed 1)
+    private static final long AUTOMATIC_PEST_CONTROL_DELAY = 10_000;
+    private static final long AUTOMATIC_WATERING_INTERVAL = 5_000;
+    private static final long HEALTH_RECOVERY_INTERVAL = 15_000;
+    private static final long STATUS_SYMBOL_DURATION = 3_000;
+    private static final long PLANT_TIMER_TICK = 1_000; // Resolution of the per-plant timers
+
+    // Tags of the per-plant timers, see TimingWheel#find
+    private static final int WATERING_TASK = 1;
+    private static final int RECOVERY_TASK = 2;
+    private static final int WATERING_SYMBOL = 3;
+    private static final int PEST_CONTROL_SYMBOL = 4;
+
+    // Gardens smaller than this are not worth forking for
+    private static final int PARALLEL_TICK_THRESHOLD = 4096;
+    private static final int CHUNKS_PER_WORKER = 4; // More chunks per window than workers evens out uneven chunks
+    private static final int CHUNK_CELLS = ChunkedCellStore.CHUNK_SIZE * ChunkedCellStore.CHUNK_SIZE;
+
+    // A plant's entry in the water reduction buffer: cell, old health, old water level, water loss, health impact
+    private static final int WATER_REDUCTION_FIELDS = 5;
+
+    private final int rows;
+    private final int cols;
+    private final GardenListener listener;
+    private final EventScheduler scheduler;
+    private final TimingWheel plantTimers;
+    private SimulationRandom random; // Only replaced when a save file is restored
+    private SplittableRandom insectRandom;
+    private boolean timersScheduled = false;
+    private boolean started = false;
+    private double speed = 1.0; // Applied to the clock by start()
+    private ForkJoinPool tickPool = ForkJoinPool.commonPool();
+    private GardenJournal journal; // Null unless commands are journaled
+    private boolean replaying = false; // Replaying a journal: no timers or status symbols
+    private MappedStateStore stateStore; // Null unless cell state is mirrored to a mapped file
+
+    // Cell state, keyed by row * cols + col; plants and infestations live in a sparse chunked grid
+    private final PlantStore plants;
+
+    private final List<Insect> insects;
+    private int currentTemperature = 25; // Default temperature
+
+    private final GardenStatistics statistics = new GardenStatistics();
+    private final EngineMetrics metrics;
+
+    // Snapshot chunks with cells changed since the last snapshot; the marks keep each chunk in the list once
+    private final BitSet changedChunkMarks = new BitSet();
+    private int[] changedChunks = new int[64];
+    private int changedChunkCount = 0;
+    private volatile GardenSnapshot snapshot;
+
+    // One chunk-sized buffer per chunk of a water reduction window, reused by every pass
+    private int[][] waterReductions = new int[0][];
+
+    // What the state store and the snapshots read of a cell
+    private final CellReader cells = new CellReader() {
+        @Override
+        public Plant plantAt(int cell) {
+            return GardenEngine.this.plantAt(cell);
+        }
+
+        @Override
+        public PlantSpec specAt(int cell) {
+            return plants.specAt(row(cell), col(cell));
+        }
+
+        @Override
+        public int infestationAt(int cell) {
+            return plants.getInfestation(row(cell), col(cell));
+        }
+
+        @Override
+        public boolean isRecovering(int cell) {
+            return GardenEngine.this.isRecovering(cell);
+        }
+    };
+
+    /**
+     * Creates a new, empty square garden running in real time.
+     *
+     * @param gridSize           The number of rows and columns of the grid.
+     * @param simulationExecutor The executor all state changes are confined to.
+     * @param listener           Receives cell, day and log notifications.
+     */
+    public GardenEngine(int gridSize, Executor simulationExecutor, GardenListener listener) {
+        this(gridSize, gridSize, simulationExecutor, listener);
+    }
+
+    /**
+     * Creates a new, empty garden running in real time. Memory grows with the number of planted
+     * cells, not with the grid area, so very large and mostly empty grids are fine.
+     *
+     * @param rows               The number of rows of the grid.
+     * @param cols               The number of columns of the grid.
+     * @param simulationExecutor The executor all state changes are confined to.
+     * @param listener           Receives cell, day and log notifications.
+     * @throws IllegalArgumentException if the grid is empty or has more than {@code Integer.MAX_VALUE} cells.
+     */
+    public GardenEngine(int rows, int cols, Executor simulationExecutor, GardenListener listener) {
+        this(rows, cols, simulationExecutor, listener, SimulationRandom.unseeded());
+    }
+
+    /**
+     * Creates a new, empty garden running in real time whose random choices all come from the given
+     * source. Two engines with the same seed that receive the same commands at the same simulated
+     * times evolve identically, however many threads the tick pool has.
+     *
+     * @param rows               The number of rows of the grid.
+     * @param cols               The number of columns of the grid.
+     * @param simulationExecutor The executor all state changes are confined to.
+     * @param listener           Receives cell, day and log notifications.
+     * @param random             The source of every random choice of the simulation.
+     * @throws IllegalArgumentException if the grid is empty or has more than {@code Integer.MAX_VALUE} cells.
+     */
+    public GardenEngine(int rows, int cols, Executor simulationExecutor, GardenListener listener, SimulationRandom random) {
+        this(rows, cols, simulationExecutor, listener, random, PlantStorage.HEAP);
+    }
+
+    /**
+     * Creates a new, empty garden like {@link #GardenEngine(int, int, Executor, GardenListener, SimulationRandom)}
+     * that keeps its plants in the given storage.
+     *
+     * @param plantStorage Where the plants live; with {@link PlantStorage#OFF_HEAP} the plants
+     *                     returned by the engine are views of their cell.
+     * @throws IllegalArgumentException if the grid is empty or has more than {@code Integer.MAX_VALUE} cells.
+     */
+    public GardenEngine(int rows, int cols, Executor simulationExecutor, GardenListener listener, SimulationRandom random,
+                        PlantStorage plantStorage) {
+        this.plants = plantStorage == PlantStorage.OFF_HEAP ? new OffHeapPlantStore(rows, cols) : new HeapPlantStore(rows, cols);
+        this.rows = rows;
+        this.cols = cols;
+        this.listener = listener;
+        this.random = random;
+        this.insectRandom = random.stream(SimulationRandom.Subsystem.INSECT_ATTACK);
+        // Simulated time stands still until start(), so synchronous runs never see real time pass
+        this.scheduler = new EventScheduler(simulationExecutor, new SimulationClock(SimulationClock.AS_FAST_AS_POSSIBLE));
+        this.plantTimers = new TimingWheel(scheduler, PLANT_TIMER_TICK, rows, cols);
+        this.metrics = new EngineMetrics(this, scheduler);
+        this.insects = initializeInsects();
+        this.snapshot = GardenSnapshot.empty(rows, cols, scheduler.now(), currentTemperature);
+    }
+
+    /**
+     * Schedules the garden-wide timers (water reduction, day counter, random insect attacks) and
+     * starts the event loop. Simulated time starts passing at the configured speed.
+     */
+    public void start() {
+        started = true;
+        scheduler.setSpeed(speed);
+        scheduleTimers();
+        scheduler.start();
+    }
+
+    /**
+     * Runs the simulation synchronously on the calling thread for the given amount of simulated
+     * time, as fast as the CPU allows. Must not be combined with {@link #start()}. Simulated time
+     * only moves from event to event, so the outcome does not depend on how long the run takes.
+     *
+     * @param simulatedMillis The simulated time to run for, in milliseconds.
+     */
+    public void runFor(long simulatedMillis) {
+        scheduleTimers();
+        scheduler.runUntil(scheduler.now() + simulatedMillis);
+    }
+
+    /**
+     * Runs the simulation synchronously for the given number of simulated days.
+     *
+     * @param days The number of days to simulate.
+     */
+    public void runDays(int days) {
+        runFor(days * DAY_LENGTH);
+    }
+
+    /**
+     * Changes how fast simulated time passes once the engine is started.
+     *
+     * @param speed Simulated milliseconds per real millisecond, or
+     *              {@link SimulationClock#AS_FAST_AS_POSSIBLE}.
+     */
+    public void setSpeed(double speed) {
+        if (started) {
+            scheduler.setSpeed(speed);
+        } else if (!(speed > 0)) {
+            throw new IllegalArgumentException("Clock speed must be positive: " + speed);
+        }
+        this.speed = speed;
+    }
+
+    private void scheduleTimers() {
+        if (timersScheduled) return;
+        timersScheduled = true;
+        scheduler.scheduleAtFixedRate(WATER_REDUCTION_INTERVAL, WATER_REDUCTION_INTERVAL, this::reduceWater);
+        // A restored garden starts mid-day; days still begin on multiples of DAY_LENGTH
+        scheduler.scheduleAtFixedRate(DAY_LENGTH - scheduler.now() % DAY_LENGTH, DAY_LENGTH, this::advanceDay);
+        scheduleRandomInsectAttack();
+    }
+
+    /**
+     * Stops the event loop, discards all pending timers and per-plant tasks and frees off-heap plants.
+     */
+    public void stop() {
+        scheduler.stop();
+        metrics.unregisterMBeans();
+        plants.close();
+    }
+
+    private List<Insect> initializeInsects() {
+        List<Insect> insectList = new ArrayList<>();
+        for (InsectType type : InsectType.values()) {
+            insectList.add(new Insect(type));
+        }
+        return insectList;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Queries
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * @return The scheduler driving all simulation timers; clients may add their own events to it.
+     */
+    public EventScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public List<Insect> getInsects() {
+        return Collections.unmodifiableList(insects);
+    }
+
+    public int getTemperature() {
+        return currentTemperature;
+    }
+
+    public SimulationClock getClock() {
+        return scheduler.getClock();
+    }
+
+    /**
+     * @return The number of complete simulated days since the simulation started.
+     */
+    public int getDaysElapsed() {
+        return (int) (scheduler.now() / DAY_LENGTH);
+    }
+
+    public int getPlantCount() {
+        return plants.size();
+    }
+
+    /**
+     * @return The number of live per-plant timers (automatic watering, health recovery, status symbols).
+     */
+    public int getLivePlantTimerCount() {
+        return plantTimers.getLiveTimerCount();
+    }
+
+    /**
+     * @return The latency and throughput figures of the simulation.
+     */
+    public EngineMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return The seed of the simulation's random choices; pass it to a new engine to reproduce this run.
+     */
+    public long getRandomSeed() {
+        return random.getSeed();
+    }
+
+    /**
+     * @return The garden statistics, kept up to date as the garden changes.
+     */
+    public GardenStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return The plant growing in the given cell, or {@code null} if the cell is empty.
+     */
+    public Plant getPlant(int row, int col) {
+        return plants.get(row, col);
+    }
+
+    /**
+     * @return The {@link InsectType} bitmask of the insects currently infesting the given cell (0 if none).
+     */
+    public int getInfestation(int row, int col) {
+        return plants.getInfestation(row, col);
+    }
+
+    public boolean isWatering(int row, int col) {
+        return plantTimers.find(cellIndex(row, col), WATERING_SYMBOL) != null;
+    }
+
+    public boolean isUnderPestControl(int row, int col) {
+        return plantTimers.find(cellIndex(row, col), PEST_CONTROL_SYMBOL) != null;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Commands
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * Plants a new plant of the given type in an empty cell.
+     *
+     * @param row  The row of the cell.
+     * @param col  The column of the cell.
+     * @param type The type to plant, or {@code null} if none is selected.
+     * @return True if a plant was planted.
+     */
+    public boolean plant(int row, int col, PlantType type) {
+        int cell = cellIndex(row, col);
+        if (type != null && !plants.contains(row, col)) {
+            if (journal != null) journal.plant(scheduler.now(), cell, type);
+            Plant plant = createPlant(type.name() + " " + cell, PlantSpec.defaults(type));
+            plants.put(row, col, plant);
+            statistics.plantAdded(plant);
+            markChanged(cell);
+            listener.cellChanged(row, col);
+            listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 🌱 PLANTING: Successfully planted " + plant.getPlantType().name() +
+                " at coordinates (" + row + ", " + col + "). Plant ID: " + plant.getName() + "\n");
+            syncStateStore();
+            return true;
+        } else if (plants.contains(row, col)) {
+            listener.log(Logger.LogLevel.ERROR, getCurrentTime() + " ⚠️ ERROR: Planting failed at coordinates (" + row + ", " + col +
+                "). Location is already occupied.\n");
+        } else {
+            listener.log(Logger.LogLevel.ERROR, getCurrentTime() + " ⚠️ ERROR: Planting failed. No plant type selected.\n");
+        }
+        return false;
+    }
+
+    /**
+     * Plants every empty cell of a region with plants of one type and logs a single summary
+     * instead of one message per plant. Occupied cells are skipped.
+     *
+     * @param region The cells to plant.
+     * @param type   The type to plant.
+     * @param spec   The per-plant parameters, shared by all new plants.
+     * @return The number of plants planted.
+     * @throws IllegalArgumentException if the spec is for another type or the region is not inside the grid.
+     */
+    public int plantAll(CellRegion region, PlantType type, PlantSpec spec) {
+        if (spec.getPlantType() != type) {
+            throw new IllegalArgumentException("Spec for " + spec.getPlantType() + " cannot plant " + type);
+        }
+        if (region.endRow() > rows || region.endCol() > cols) {
+            throw new IllegalArgumentException("Region " + region + " is outside the " + rows + "x" + cols + " garden");
+        }
+
+        if (journal != null) journal.plantAll(scheduler.now(), region, spec);
+        String namePrefix = type.name() + " ";
+        int planted = 0;
+        for (int row = region.row(); row < region.endRow(); row++) {
+            for (int col = region.col(); col < region.endCol(); col++) {
+                if (plants.contains(row, col)) continue;
+                Plant plant = createPlant(namePrefix + cellIndex(row, col), spec);
+                plants.put(row, col, plant);
+                statistics.plantAdded(plant);
+                markChanged(cellIndex(row, col));
+                listener.cellChanged(row, col);
+                planted++;
+            }
+        }
+
+        long skipped = (long) region.rows() * region.cols() - planted;
+        listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 🌱 BULK PLANTING: Successfully planted " + planted + " " + type.name() +
+            " plants in rows " + region.row() + "-" + (region.endRow() - 1) + ", columns " + region.col() + "-" + (region.endCol() - 1) +
+            (skipped > 0 ? " (" + skipped + " occupied cells skipped)" : "") + ".\n");
+        syncStateStore();
+        return planted;
+    }
+
+    /**
+     * Removes the plant from the given cell, if any.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     */
+    public void removePlant(int row, int col) {
+        int cell = cellIndex(row, col);
+        Plant plant = plants.get(row, col);
+        if (plant == null) return;
+
+        if (journal != null) journal.remove(scheduler.now(), cell);
+        clearCell(cell, false);
+        listener.cellCleared(row, col);
+        listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 🗑️ PLANT REMOVED: " + plant.getName() + " has been removed from coordinates (" +
+            row + ", " + col + ")\n");
+        syncStateStore();
+    }
+
+    /**
+     * Waters every plant in the garden, applying overwatering damage where needed.
+     *
+     * @param waterAmount The amount of water to give each plant.
+     */
+    public void waterAll(int waterAmount) {
+        if (journal != null) journal.water(scheduler.now(), waterAmount);
+        statistics.waterAdded(waterAmount);
+        for (int cell : plantedCells()) {
+            Plant plant = plantAt(cell);
+            int oldHealth = plant.getHealth();
+            int oldWaterLevel = plant.getCurrentWaterLevel();
+            plant.water(waterAmount);
+            statistics.plantChanged(plant, oldHealth, oldWaterLevel);
+            markChanged(cell);
+
+            // Set watering status to true and update immediately
+            showWateringSymbol(cell);
+
+            // Check for overwatering damage
+            if (plant.getCurrentWaterLevel() > 80) {
+                int overWaterDamage = (plant.getCurrentWaterLevel() - 80) / 2; // Damage increases with excess water
+                int healthBeforeDamage = plant.getHealth();
+                plant.decreaseHealth(overWaterDamage);
+                statistics.healthChanged(healthBeforeDamage, plant.getHealth());
+                listener.log(Logger.LogLevel.WARNING, getCurrentTime() + " ⚠️ WARNING: " + plant.getName() + " is showing signs of overwatering! Health decreased by " +
+                    overWaterDamage + "%. Current health: " + plant.getHealth() + "%\n");
+
+                // Check if plant died from overwatering
+                checkAndHandlePlantDeath(cell, plant);
+            }
+
+            listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 💧 WATERING: Added " + waterAmount + " units of water to " + plant.getName() +
+                ". Current water level: " + plant.getCurrentWaterLevel() + "%\n");
+        }
+        syncStateStore();
+    }
+
+    /**
+     * Sets the garden temperature.
+     *
+     * @param temperature The new temperature in °C.
+     */
+    public void setTemperature(int temperature) {
+        if (journal != null) journal.temperature(scheduler.now(), temperature);
+        currentTemperature = temperature;
+        listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 🌡️ TEMPERATURE UPDATE: Garden temperature has been adjusted to " + currentTemperature + "°C.\n");
+        syncStateStore();
+    }
+
+    /**
+     * Lets each of the given insects attack every plant it can damage.
+     *
+     * @param selectedInsects The attacking insects.
+     */
+    public void insectAttack(List<Insect> selectedInsects) {
+        if (selectedInsects.isEmpty()) return;
+
+        if (journal != null) journal.insectAttack(scheduler.now(), selectedInsects);
+        long startNanos = System.nanoTime();
+        SimulationEvents.InsectAttack event = new SimulationEvents.InsectAttack();
+        event.begin();
+        int damagedPlants = 0;
+        for (int cell : plantedCells()) {
+            Plant plant = plantAt(cell);
+            boolean damaged = false;
+            for (Insect insect : selectedInsects) {
+                int damage = insect.getDamage(plant.getPlantType());
+                if (plant.isAlive() && damage > 0) {
+                    // Apply damage
+                    int oldHealth = plant.getHealth();
+                    plant.decreaseHealth(damage);
+                    statistics.healthChanged(oldHealth, plant.getHealth());
+                    infest(cell, insect.getType());
+                    damaged = true;
+
+                    // Log the attack
+                    listener.log(Logger.LogLevel.WARNING, getCurrentTime() + " 🚨 ALERT: Manual insect attack initiated! " + insect + " has attacked " + plant.getPlantType().name() +
+                            " at coordinates (" + row(cell) + ", " + col(cell) + "). Damage inflicted: " + damage + " HP\n");
+
+                    notifyCellChanged(cell);
+
+                    // Check if plant has died after manual insect attack
+                    checkAndHandlePlantDeath(cell, plant);
+                }
+            }
+            if (damaged) {
+                damagedPlants++;
+            }
+        }
+        syncStateStore();
+        metrics.getLatency(EngineMetrics.Phase.INSECT_ATTACK).recordSince(startNanos);
+        if (event.shouldCommit()) {
+            event.plantCount = plants.size();
+            event.damagedPlants = damagedPlants;
+            event.insects = selectedInsects.toString();
+            event.manual = true;
+            event.commit();
+        }
+    }
+
+    /**
+     * Picks a random insect and lets it attack a random subset of the garden, then schedules the
+     * automatic pest control sweep.
+     *
+     * @param random The source of randomness.
+     */
+    public void randomInsectAttack(SplittableRandom random) {
+        if (plants.isEmpty()) return;
+
+        long startNanos = System.nanoTime();
+        SimulationEvents.InsectAttack event = new SimulationEvents.InsectAttack();
+        event.begin();
+        // Select a random insect
+        Insect randomInsect = insects.get(random.nextInt(insects.size()));
+
+        // Select random plants to attack: selection sampling picks numTargets of the plants, each
+        // subset equally likely, in a single pass in store order without copying the cells
+        int targetCount = plants.size();
+        int numTargets = random.nextInt(targetCount) + 1;
+        int[] counts = new int[3]; // visited, attacked, damaged
+        plants.forEach((row, col, plant) -> {
+            int unvisited = targetCount - counts[0]++;
+            if (random.nextInt(unvisited) >= numTargets - counts[1]) return;
+            counts[1]++;
+            int cell = cellIndex(row, col);
+
+            int damage = randomInsect.getDamage(plant.getPlantType());
+            if (damage > 0) {
+                // Apply damage
+                int oldHealth = plant.getHealth();
+                plant.decreaseHealth(damage);
+                statistics.healthChanged(oldHealth, plant.getHealth());
+                infest(cell, randomInsect.getType());
+                counts[2]++;
+
+                // Log only severe damage to file
+                if (damage > 15 || plant.getHealth() < 30) {
+                    listener.logImportant(Logger.LogLevel.WARNING, getCurrentTime() + " 🚨 SEVERE INSECT DAMAGE: " + randomInsect.getName() +
+                        " has caused significant damage to " + plant.getName() +
+                        " at coordinates (" + row + ", " + col + "). Damage: -" + damage +
+                        " HP. Current health: " + plant.getHealth() + "%\n");
+                } else if (listener.isLogging(Logger.LogLevel.WARNING)) {
+                    listener.log(Logger.LogLevel.WARNING, getCurrentTime() + " 🚨 ALERT: " + randomInsect.getName() + " has launched an attack on " +
+                        plant.getName() + " at coordinates (" + row + ", " + col + "). Damage inflicted: -" + damage +
+                        " HP. Current health: " + plant.getHealth() + "%\n");
+                }
+
+                notifyCellChanged(cell);
+
+                // Check if plant has died after insect attack
+                checkAndHandlePlantDeath(cell, plant);
+            }
+        });
+        int damagedPlants = counts[2];
+
+        // Start automatic pest control after attack
+        scheduleAutomaticPestControl();
+        syncStateStore();
+        metrics.getLatency(EngineMetrics.Phase.INSECT_ATTACK).recordSince(startNanos);
+        if (event.shouldCommit()) {
+            event.plantCount = plants.size();
+            event.damagedPlants = damagedPlants;
+            event.insects = randomInsect.getName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Clears every infestation in the garden and starts health recovery for the affected plants.
+     */
+    public void automaticPestControl() {
+        if (journal != null) journal.automaticPestControl(scheduler.now());
+        long startNanos = System.nanoTime();
+        SimulationEvents.PestControl event = new SimulationEvents.PestControl();
+        event.begin();
+        int treatedCells = plants.getInfestedCount();
+        boolean logging = listener.isLogging(Logger.LogLevel.INFO);
+        plants.forEachInfested((row, col, infestation) -> {
+            int cell = cellIndex(row, col);
+
+            // Log the start of pest control
+            if (logging) {
+                listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 🧴 AUTOMATIC PEST CONTROL: Starting pest control at coordinates (" +
+                    row + ", " + col + "). Active insects: " + String.join(", ", InsectType.namesOf(infestation)) + "\n");
+            }
+
+            markChanged(cell);
+            showPestControlSymbol(cell, true);
+            startHealthRecovery(cell);
+            plants.setInfestation(row, col, 0);
+        });
+        syncStateStore();
+        metrics.getLatency(EngineMetrics.Phase.PEST_CONTROL).recordSince(startNanos);
+        if (event.shouldCommit()) {
+            event.plantCount = plants.size();
+            event.treatedCells = treatedCells;
+            event.automatic = true;
+            event.commit();
+        }
+    }
+
+    /**
+     * Applies the selected pest control measures to every infested cell.
+     *
+     * @param selectedPests The insects to eliminate.
+     */
+    public void applyPestControl(Set<InsectType> selectedPests) {
+        if (selectedPests.isEmpty()) {
+            listener.log(Logger.LogLevel.WARNING, getCurrentTime() + " ⚠️ WARNING: No pest control measures selected\n");
+            return;
+        }
+
+        int selectedMask = InsectType.maskOf(selectedPests);
+        if (journal != null) journal.pestControl(scheduler.now(), selectedMask);
+        long startNanos = System.nanoTime();
+        SimulationEvents.PestControl event = new SimulationEvents.PestControl();
+        event.begin();
+        int[] treatedCells = {0};
+        statistics.pestControlApplied();
+        String selectedNames = String.join(", ", InsectType.namesOf(selectedMask));
+        // Log the start of manual pest control
+        listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 🧴 MANUAL PEST CONTROL: Starting application of " +
+            selectedNames + " control measures\n");
+
+        plants.forEachInfested((row, col, infestation) -> {
+            int cell = cellIndex(row, col);
+            int eliminated = infestation & selectedMask;
+            if (eliminated == 0) return;
+            treatedCells[0]++;
+
+            plants.setInfestation(row, col, infestation & ~selectedMask);
+            markChanged(cell);
+
+            Plant plant = plantAt(cell);
+            // Show pest control symbol and update immediately
+            showPestControlSymbol(cell, false);
+
+            // Log detailed pest control action
+            listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 🎯 PEST CONTROL ACTION: Applied " +
+                selectedNames + " control to " + plant.getName() +
+                " at coordinates (" + row(cell) + ", " + col(cell) + "). Eliminated: " +
+                String.join(", ", InsectType.namesOf(eliminated)) + "\n");
+
+            startHealthRecovery(cell);
+        });
+        // Log completion of manual pest control
+        listener.log(Logger.LogLevel.INFO, getCurrentTime() + " ✅ MANUAL PEST CONTROL COMPLETE: Successfully applied selected pest control measures\n");
+        syncStateStore();
+        metrics.getLatency(EngineMetrics.Phase.PEST_CONTROL).recordSince(startNanos);
+        if (event.shouldCommit()) {
+            event.plantCount = plants.size();
+            event.treatedCells = treatedCells[0];
+            event.commit();
+        }
+    }
+
+    /**
+     * One water reduction pass: drains water according to temperature, triggers automatic watering
+     * and applies water-stress damage.
+     *
+     * <p>The pass walks the grid a window of chunks at a time. The new values of the plants of each
+     * chunk in the window are computed independently (in parallel on the tick pool once the garden
+     * is large enough, one chunk per task); each chunk writes its outcomes in store order to its own
+     * chunk-sized buffer, reused from window to window and pass to pass, and changes nothing. The
+     * merge step then applies the changes to the plants and every side effect (logging, automatic
+     * watering, cell notifications, deaths) on the simulation thread, chunk by chunk in store order.
+     * A merge only touches the plants of its own chunk, so both paths produce the same garden and
+     * the same event sequence, and the buffers do not grow with the garden. Empty chunks are never
+     * visited, and messages are only built if the listener logs them.</p>
+     */
+    public void reduceWater() {
+        if (journal != null) journal.waterReduction(scheduler.now());
+        long startNanos = System.nanoTime();
+        SimulationEvents.WaterReduction event = new SimulationEvents.WaterReduction();
+        event.begin();
+        int plantCount = plants.size();
+        int stressedPlants = 0;
+        // Simulated time does not move during the pass
+        String time = getCurrentTime();
+        boolean logStatus = listener.isLogging(Logger.LogLevel.INFO);
+        boolean logStress = listener.isLogging(Logger.LogLevel.WARNING);
+        double temperatureMultiplier = calculateWaterLossMultiplier();
+
+        boolean parallel = tickPool != null && plantCount >= PARALLEL_TICK_THRESHOLD;
+        int windowSize = parallel ? tickPool.getParallelism() * CHUNKS_PER_WORKER : 1;
+        if (waterReductions.length < windowSize) {
+            int filled = waterReductions.length;
+            waterReductions = Arrays.copyOf(waterReductions, windowSize);
+            for (int i = filled; i < windowSize; i++) {
+                waterReductions[i] = new int[CHUNK_CELLS * WATER_REDUCTION_FIELDS];
+            }
+        }
+        int[] windowChunks = new int[windowSize];
+        int[] windowLengths = new int[windowSize];
+
+        int chunk = 0;
+        while (chunk < plants.getChunkSlotCount()) {
+            // The next window of non-empty chunks
+            int windowChunkCount = 0;
+            for (; chunk < plants.getChunkSlotCount() && windowChunkCount < windowSize; chunk++) {
+                if (plants.getChunkSize(chunk) > 0) {
+                    windowChunks[windowChunkCount++] = chunk;
+                }
+            }
+            if (parallel) {
+                reduceWaterInParallel(windowChunks, windowChunkCount, windowLengths, temperatureMultiplier);
+            } else if (windowChunkCount > 0) {
+                windowLengths[0] = reduceWaterInChunk(windowChunks[0], waterReductions[0], temperatureMultiplier);
+            }
+
+            for (int i = 0; i < windowChunkCount; i++) {
+                stressedPlants += applyWaterReductions(waterReductions[i], windowLengths[i], time, logStatus, logStress);
+            }
+        }
+        syncStateStore();
+        metrics.getLatency(EngineMetrics.Phase.WATER_REDUCTION).recordSince(startNanos);
+        if (event.shouldCommit()) {
+            event.plantCount = plantCount;
+            event.stressedPlants = stressedPlants;
+            event.parallel = parallel;
+            event.commit();
+        }
+    }
+
+    /**
+     * The merge step of the water reduction for the outcomes of one chunk.
+     *
+     * @return The number of plants that suffered from water stress.
+     */
+    private int applyWaterReductions(int[] reductions, int length, String time, boolean logStatus, boolean logStress) {
+        int stressedPlants = 0;
+        for (int i = 0; i < length; i += WATER_REDUCTION_FIELDS) {
+            int cell = reductions[i];
+            int oldHealth = reductions[i + 1];
+            int oldWaterLevel = reductions[i + 2];
+            int waterLoss = reductions[i + 3];
+            int healthImpact = reductions[i + 4];
+            int waterLevel = Math.max(oldWaterLevel - waterLoss, 0);
+
+            Plant plant = plantAt(cell);
+            plant.decreaseWaterLevel(waterLoss);
+            if (healthImpact > 0) {
+                plant.decreaseHealth(healthImpact);
+            }
+            statistics.plantChanged(plant, oldHealth, oldWaterLevel);
+            markChanged(cell);
+            if (logStatus) {
+                listener.log(Logger.LogLevel.INFO, time + " 💧 WATER STATUS: " + plant.getName() + " water level decreased by " + waterLoss +
+                    "%. Current water level: " + waterLevel + "%\n");
+            }
+
+            // Start automatic watering if water level is too low
+            if (waterLevel < 50) {
+                startAutomaticWatering(cell);
+            }
+
+            if (healthImpact > 0) {
+                stressedPlants++;
+                if (logStress) {
+                    listener.log(Logger.LogLevel.WARNING, time + " ⚠️ WARNING: " + plant.getName() + " is showing signs of water stress! Health decreased by " +
+                        healthImpact + "%. Current health: " + plant.getHealth() + "%\n");
+                }
+                notifyCellChanged(cell);
+                checkAndHandlePlantDeath(cell, plant);
+            }
+        }
+        return stressedPlants;
+    }
+
+    /**
+     * Uses the given pool for the water reduction pass of large gardens.
+     *
+     * @param tickPool The pool to partition the pass over, or {@code null} to always run serially.
+     */
+    public void setTickPool(ForkJoinPool tickPool) {
+        this.tickPool = tickPool;
+    }
+
+    /**
+     * Records every state-changing command from now on to the given journal.
+     *
+     * @param journal The journal, or {@code null} to stop journaling.
+     */
+    public void setJournal(GardenJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Mirrors the state of every cell to the given store from now on, starting with a full write
+     * of the current garden. Must be called on the simulation thread.
+     *
+     * @param stateStore The store, or {@code null} to stop mirroring.
+     */
+    public void setStateStore(MappedStateStore stateStore) {
+        this.stateStore = stateStore;
+        if (stateStore == null) return;
+        stateStore.markOccupiedDirty();
+        for (int cell : plantedCells()) {
+            stateStore.markDirty(cell);
+        }
+        syncStateStore();
+    }
+
+    /**
+     * Writes the cells changed by the current command or timer to the state store, if any.
+     */
+    private void syncStateStore() {
+        if (stateStore != null) {
+            stateStore.sync(scheduler.now(), currentTemperature, statistics, cells);
+        }
+    }
+
+    private void reduceWaterInParallel(int[] windowChunks, int windowChunkCount, int[] windowLengths, double temperatureMultiplier) {
+        List<Callable<Integer>> tasks = new ArrayList<>(windowChunkCount);
+        for (int i = 0; i < windowChunkCount; i++) {
+            int chunk = windowChunks[i];
+            int[] reductions = waterReductions[i];
+            tasks.add(() -> reduceWaterInChunk(chunk, reductions, temperatureMultiplier));
+        }
+
+        List<Future<Integer>> results = tickPool.invokeAll(tasks);
+        for (int i = 0; i < windowChunkCount; i++) {
+            try {
+                windowLengths[i] = results.get(i).get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Water reduction failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Water reduction interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * Computes the new values of the plants of a chunk for the merge step into the given buffer.
+     * Only reads the plants and the cell store, so chunks can be computed concurrently.
+     *
+     * @return The number of buffer entries written.
+     */
+    private int reduceWaterInChunk(int chunk, int[] reductions, double temperatureMultiplier) {
+        int[] next = {0};
+        plants.forEachInChunks(chunk, chunk + 1, (row, col, plant) -> {
+            reducePlantWater(cellIndex(row, col), plant, temperatureMultiplier, reductions, next[0]);
+            next[0] += WATER_REDUCTION_FIELDS;
+        });
+        return next[0];
+    }
+
+    /**
+     * Writes the outcome of the water reduction of one plant to {@code reductions[index]} and the
+     * following {@value #WATER_REDUCTION_FIELDS} entries.
+     */
+    private void reducePlantWater(int cell, Plant plant, double temperatureMultiplier, int[] reductions, int index) {
+        int oldWaterLevel = plant.getCurrentWaterLevel();
+
+        // Calculate water reduction based on temperature; the merge step applies it like Plant.decreaseWaterLevel
+        int reduction = (int) (plant.getWaterRequirement() * temperatureMultiplier);
+        int waterLevel = Math.max(oldWaterLevel - reduction, 0);
+
+        // Health impact based on water level
+        int healthImpact = 0;
+        if (waterLevel < 30) {
+            // Calculate health impact based on water level
+            if (waterLevel < 20) {
+                healthImpact = 4; // Severe health impact
+            } else if (waterLevel < 25) {
+                healthImpact = 3; // Moderate health impact
+            } else {
+                healthImpact = 2; // Light health impact
+            }
+
+            // Additional health impact in extreme temperatures
+            if (currentTemperature > 35 || currentTemperature < 10) {
+                healthImpact += 2;
+            }
+        }
+
+        reductions[index] = cell;
+        reductions[index + 1] = plant.getHealth();
+        reductions[index + 2] = oldWaterLevel;
+        reductions[index + 3] = reduction;
+        reductions[index + 4] = healthImpact;
+    }
+
+    /**
+     * Advances the day counter and runs the periodic performance check.
+     */
+    public void advanceDay() {
+        int daysElapsed = getDaysElapsed();
+        int currentDay = daysElapsed + 1;
+        listener.dayChanged(currentDay);
+
+        // Log the start of the new day
+        listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 📅 DAY UPDATE: Day " + currentDay + " has begun! New opportunities await in the garden.\n");
+        syncStateStore();
+
+        // Check system performance every 24 days
+        if (daysElapsed % PERFORMANCE_CHECK_INTERVAL == 0) {
+            getState();
+        }
+    }
+
+    /**
+     * Computes the performance report, logs it as important and raises an alert on critical conditions.
+     *
+     * @return The report text.
+     */
+    public String getState() {
+        long startNanos = System.nanoTime();
+        SimulationEvents.StateReport event = new SimulationEvents.StateReport();
+        event.begin();
+        // The statistics are maintained as the garden changes, so the report never scans the plants
+        int daysElapsed = getDaysElapsed();
+        int currentPlantCount = statistics.getPlantCount();
+        int totalPlantsPlanted = statistics.getTotalPlantsPlanted();
+        int totalPlantsDied = statistics.getTotalPlantsDied();
+        int dyingPlants = statistics.getDyingPlantCount();
+        double averageHealth = statistics.getAverageHealth();
+
+        // Create performance report
+        StringBuilder report = new StringBuilder();
+        report.append("\n📊 SYSTEM PERFORMANCE REPORT (Day ").append(daysElapsed).append(")\n");
+        report.append("==========================================\n");
+        report.append("Simulated Time: ").append(getCurrentDate()).append(" ").append(getCurrentTime())
+            .append(" (speed ").append(speed == SimulationClock.AS_FAST_AS_POSSIBLE ? "max" : String.format("%.0fx", speed)).append(")\n");
+        report.append("Current Plant Count: ").append(currentPlantCount).append("\n");
+        report.append("Live Plant Timers: ").append(plantTimers.getLiveTimerCount()).append("\n");
+        report.append("Allocated Plant Chunks: ").append(plants.getAllocatedChunkCount()).append(" of ")
+            .append(plants.getChunkSlotCount()).append("\n");
+        report.append("Random Seed: ").append(random.getSeed()).append("\n");
+        report.append("Total Plants Planted: ").append(totalPlantsPlanted).append("\n");
+        report.append("Total Plants Died: ").append(totalPlantsDied).append("\n");
+        report.append("Total Plants Removed: ").append(statistics.getTotalPlantsRemoved()).append("\n");
+        report.append("Survival Rate: ").append(String.format("%.2f%%",
+            totalPlantsPlanted > 0 ? ((totalPlantsPlanted - totalPlantsDied) * 100.0 / totalPlantsPlanted) : 0)).append("\n");
+        report.append("\nHealth Status:\n");
+        report.append("- Healthy Plants (>80%): ").append(statistics.getHealthyPlantCount()).append("\n");
+        report.append("- Stressed Plants (50-80%): ").append(statistics.getStressedPlantCount()).append("\n");
+        report.append("- Dying Plants (<50%): ").append(dyingPlants).append("\n");
+        report.append("- Average Health: ").append(String.format("%.1f%%", averageHealth)).append("\n");
+        report.append("\nWater Status:\n");
+        report.append("- Average Water Level: ").append(String.format("%.1f%%", statistics.getAverageWaterLevel())).append("\n");
+        report.append("- Total Water Added: ").append(statistics.getTotalWaterAdded()).append(" units\n");
+        report.append("\nPest Control:\n");
+        report.append("- Total Pest Controls Applied: ").append(statistics.getTotalPestControlsApplied()).append("\n");
+        report.append("\nPlant Distribution:\n");
+        for (PlantType type : PlantType.values()) {
+            int count = statistics.getPlantCount(type);
+            if (count > 0) {
+                report.append("- ").append(type.name()).append(": ").append(count).append("\n");
+            }
+        }
+        report.append("\nEnvironmental Conditions:\n");
+        report.append("- Current Temperature: ").append(currentTemperature).append("°C\n");
+        metrics.appendReport(report);
+        report.append("==========================================\n");
+
+        // Log the report to both UI and file
+        listener.logImportant(Logger.LogLevel.INFO, report.toString());
+
+        // Show alert for critical conditions
+        if (dyingPlants > 0 || averageHealth < 50) {
+            listener.alert("⚠️ Critical Garden Status",
+                "Warning: Your garden is showing signs of stress!\n" +
+                "- " + dyingPlants + " plants are dying\n" +
+                "- Average health is " + String.format("%.1f%%", averageHealth) + "\n" +
+                "Please take immediate action to improve conditions.");
+        }
+        metrics.getLatency(EngineMetrics.Phase.STATE_REPORT).recordSince(startNanos);
+        if (event.shouldCommit()) {
+            event.plantCount = currentPlantCount;
+            event.day = daysElapsed;
+            event.commit();
+        }
+        return report.toString();
+    }
+
+    /**
+     * Takes a snapshot of the garden. Only the cells changed since the previous snapshot are
+     * copied. The snapshot is also published to {@link #getLatestSnapshot()}. Like the commands,
+     * it must not be called from a listener callback.
+     *
+     * @return An immutable view of every plant, safe to hand to any thread.
+     */
+    public GardenSnapshot snapshot() {
+        GardenSnapshot next = snapshot.next(scheduler.now(), currentTemperature, changedChunks, changedChunkCount, cells);
+        for (int i = 0; i < changedChunkCount; i++) {
+            changedChunkMarks.clear(changedChunks[i]);
+        }
+        changedChunkCount = 0;
+        snapshot = next;
+        return next;
+    }
+
+    /**
+     * May be called from any thread.
+     *
+     * @return The snapshot last taken with {@link #snapshot()}.
+     */
+    public GardenSnapshot getLatestSnapshot() {
+        return snapshot;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Persistence
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * Captures everything a save file holds. Only copies the cells changed since the last snapshot,
+     * so it is cheap enough to call from the tick; the result can be written on any thread.
+     */
+    GardenSaveData captureSaveData() {
+        // The saved position must be on disk before the save, or later records would be appended below it
+        if (journal != null) journal.flush();
+        return new GardenSaveData(snapshot(), random.getSeed(), journal != null ? journal.position() : -1, statistics.getTotalPlantsPlanted(),
+            statistics.getTotalPlantsDied(), statistics.getTotalPlantsRemoved(), statistics.getTotalWaterAdded(),
+            statistics.getTotalPestControlsApplied());
+    }
+
+    /**
+     * Starts restoring a saved garden into this engine: jumps simulated time to the saved time and
+     * sets the temperature. Must be followed by {@link #restorePlant} for every saved plant and
+     * {@link #finishRestore}.
+     *
+     * @throws IllegalStateException if the engine has plants or has already run.
+     */
+    void beginRestore(long simulatedTime, int temperature) {
+        if (!plants.isEmpty() || timersScheduled) {
+            throw new IllegalStateException("A garden can only be restored into a new, empty engine");
+        }
+        scheduler.getClock().advanceTo(simulatedTime);
+        currentTemperature = temperature;
+    }
+
+    /**
+     * Like {@link #beginRestore(long, int)}, and also seeds the simulation's random choices with
+     * the saved seed; the random streams start over from it.
+     */
+    void beginRestore(long simulatedTime, int temperature, long seed) {
+        beginRestore(simulatedTime, temperature);
+        random = new SimulationRandom(seed);
+        insectRandom = random.stream(SimulationRandom.Subsystem.INSECT_ATTACK);
+    }
+
+    /**
+     * Restores one saved plant.
+     *
+     * @param recovering True to restart the plant's health recovery.
+     * @throws IllegalArgumentException if the cell is outside the grid or already planted.
+     */
+    void restorePlant(int cell, PlantSpec spec, int health, int waterLevel, int infestation, boolean recovering) {
+        if (cell < 0 || cell >= rows * cols || plants.contains(row(cell), col(cell))) {
+            throw new IllegalArgumentException("Cannot restore a plant into cell " + cell);
+        }
+        Plant plant = createPlant(spec.getPlantType().name() + " " + cell, spec);
+        plant.setHealth(health);
+        plant.setCurrentWaterLevel(waterLevel);
+        plants.put(row(cell), col(cell), plant);
+        statistics.plantAdded(plant);
+        plants.setInfestation(row(cell), col(cell), infestation);
+        if (recovering && plant.getHealth() < 100) {
+            scheduleHealthRecovery(cell);
+        }
+        markChanged(cell);
+        listener.cellChanged(row(cell), col(cell));
+    }
+
+    /**
+     * Completes a restore with the saved lifetime totals.
+     */
+    void finishRestore(int planted, int died, int removed, int waterAdded, int pestControlsApplied) {
+        statistics.restoreTotals(planted, died, removed, waterAdded, pestControlsApplied);
+        listener.dayChanged(getDaysElapsed() + 1);
+        listener.logImportant(Logger.LogLevel.INFO, getCurrentTime() + " 📂 GARDEN RESTORED: " + plants.size() + " plants restored on day " +
+            (getDaysElapsed() + 1) + ".\n");
+    }
+
+    /**
+     * Starts replaying a journal into this engine: the engine's own timers stay off and commands
+     * are applied as {@link GardenReplay} reads them, at full speed.
+     *
+     * @throws IllegalStateException if the engine has run or journals its commands.
+     */
+    void beginReplay() {
+        if (timersScheduled || journal != null) {
+            throw new IllegalStateException("A journal can only be replayed into an engine that has not started or journaled");
+        }
+        replaying = true;
+    }
+
+    /**
+     * Jumps simulated time to the time of the next replayed command.
+     */
+    void replayUntil(long simulatedTime) {
+        scheduler.getClock().advanceTo(simulatedTime);
+    }
+
+    void replayAutomaticWatering(int cell) {
+        automaticWatering(cell);
+    }
+
+    void replayHealthRecovery(int cell) {
+        Plant plant = heldPlantAt(cell);
+        if (plant != null) {
+            recoverHealth(cell, plant);
+        }
+    }
+
+    void endReplay() {
+        replaying = false;
+        listener.dayChanged(getDaysElapsed() + 1);
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Timers
+    // ---------------------------------------------------------------------------------------------
+
+    private void scheduleRandomInsectAttack() {
+        long delay = (insectRandom.nextInt(30) + 10) * 1000L; // Random interval: 10 to 40 seconds
+        scheduler.schedule(delay, () -> {
+            // Each attack draws from its own stream, so the journal only needs the stream's seed
+            long attackSeed = insectRandom.nextLong();
+            if (journal != null) journal.randomInsectAttack(scheduler.now(), attackSeed);
+            randomInsectAttack(new SplittableRandom(attackSeed));
+            scheduleRandomInsectAttack();
+        });
+    }
+
+    private void scheduleAutomaticPestControl() {
+        // A replayed journal holds the sweep itself
+        if (replaying) return;
+        scheduler.schedule(AUTOMATIC_PEST_CONTROL_DELAY, this::automaticPestControl);
+    }
+
+    private void startAutomaticWatering(int cell) {
+        // Cancel any existing watering task for this cell
+        TimingWheel.Timer existingTask = plantTimers.find(cell, WATERING_TASK);
+        if (existingTask != null) {
+            existingTask.cancel();
+        }
+
+        // Schedule new watering task
+        plantTimers.scheduleAtFixedRate(cell, WATERING_TASK, 0, AUTOMATIC_WATERING_INTERVAL, () -> automaticWatering(cell));
+    }
+
+    private void automaticWatering(int cell) {
+        Plant plant = plantAt(cell);
+        if (plant == null || plant.getCurrentWaterLevel() >= 50) {
+            // Nothing to do until the next water reduction pass restarts the task
+            TimingWheel.Timer task = plantTimers.find(cell, WATERING_TASK);
+            if (task != null) {
+                task.cancel();
+            }
+            return;
+        }
+        SimulationEvents.AutomaticWatering event = new SimulationEvents.AutomaticWatering();
+        event.begin();
+        int targetWaterLevel = 75;
+        int currentLevel = plant.getCurrentWaterLevel();
+        int waterNeeded = targetWaterLevel - currentLevel;
+
+        double temperatureMultiplier = calculateTemperatureMultiplier();
+        double healthMultiplier = calculateHealthMultiplier(plant);
+
+        if (journal != null) journal.automaticWatering(scheduler.now(), cell);
+        int waterAdded = (int) (waterNeeded * temperatureMultiplier * healthMultiplier);
+        waterAdded = Math.min(waterAdded, 25);
+        int oldHealth = plant.getHealth();
+        plant.water(waterAdded);
+        statistics.plantChanged(plant, oldHealth, currentLevel);
+        markChanged(cell);
+
+        showWateringSymbol(cell);
+
+        if (listener.isLogging(Logger.LogLevel.INFO)) {
+            listener.log(Logger.LogLevel.INFO, getCurrentTime() + " 💦 AUTOMATIC WATERING: Applied " + waterAdded +
+                " units of water to " + plant.getName() + "\n");
+        }
+        syncStateStore();
+        if (event.shouldCommit()) {
+            event.row = row(cell);
+            event.col = col(cell);
+            event.waterAdded = waterAdded;
+            event.commit();
+        }
+    }
+
+    private void startHealthRecovery(int cell) {
+        Plant plant = plantAt(cell);
+        if (plant == null || plant.getHealth() >= 100) return;
+        scheduleHealthRecovery(cell);
+    }
+
+    /**
+     * Starts the recovery task of a cell. It runs until the plant is back at full health or removed.
+     */
+    private void scheduleHealthRecovery(int cell) {
+        // One recovery task per cell; a new pest control replaces the running one
+        TimingWheel.Timer existingTask = plantTimers.find(cell, RECOVERY_TASK);
+        if (existingTask != null) {
+            existingTask.cancel();
+        }
+
+        // Clearing the cell cancels the task, so it always finds the plant it was started for
+        plantTimers.scheduleAtFixedRate(cell, RECOVERY_TASK, HEALTH_RECOVERY_INTERVAL, HEALTH_RECOVERY_INTERVAL,
+            () -> recoverHealth(cell, plantAt(cell)));
+        markChanged(cell);
+    }
+
+    private boolean isRecovering(int cell) {
+        return plantTimers.find(cell, RECOVERY_TASK) != null;
+    }
+
+    /**
+     * @param plant The plant of the cell; may be the peek cursor, as it is not read after the
+     *              state store sync.
+     */
+    private void recoverHealth(int cell, Plant plant) {
+        if (plant.getHealth() < 100) {
+            if (journal != null && plants.holds(row(cell), col(cell), plant)) journal.healthRecovery(scheduler.now(), cell);
+            SimulationEvents.HealthRecovery event = new SimulationEvents.HealthRecovery();
+            event.begin();
+            int recoveryAmount = calculateRecoveryAmount(plant);
+            int oldHealth = plant.getHealth();
+            plant.increaseHealth(recoveryAmount);
+            int recovered = plant.getHealth() - oldHealth;
+            if (plants.holds(row(cell), col(cell), plant)) {
+                statistics.healthChanged(oldHealth, oldHealth + recovered);
+                if (oldHealth + recovered >= 100) {
+                    // Fully recovered: the task is done
+                    TimingWheel.Timer task = plantTimers.find(cell, RECOVERY_TASK);
+                    if (task != null) {
+                        task.cancel();
+                    }
+                }
+                markChanged(cell);
+                notifyCellChanged(cell);
+                syncStateStore();
+            }
+            if (event.shouldCommit()) {
+                event.row = row(cell);
+                event.col = col(cell);
+                event.recovered = recovered;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Shows the watering symbol of a cell until 3 seconds after the last watering: it is shown
+     * while the cell has a live symbol timer.
+     */
+    private void showWateringSymbol(int cell) {
+        if (replaying) return;
+        // Schedule removal of water symbol after 3 seconds
+        plantTimers.schedule(cell, WATERING_SYMBOL, STATUS_SYMBOL_DURATION, () -> notifyCellChanged(cell));
+        notifyCellChanged(cell);
+    }
+
+    private void showPestControlSymbol(int cell, boolean logCompletion) {
+        if (replaying) return;
+        // Schedule removal of pest control symbol
+        plantTimers.schedule(cell, PEST_CONTROL_SYMBOL, STATUS_SYMBOL_DURATION, () -> {
+            notifyCellChanged(cell);
+
+            if (logCompletion && listener.isLogging(Logger.LogLevel.INFO)) {
+                // Log completion of pest control
+                listener.log(Logger.LogLevel.INFO, getCurrentTime() + " ✅ PEST CONTROL COMPLETE: Successfully eliminated insects at coordinates (" +
+                    row(cell) + ", " + col(cell) + ")\n");
+            }
+        });
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Rules
+    // ---------------------------------------------------------------------------------------------
+
+    private double calculateWaterLossMultiplier() {
+        // Temperature affects water consumption more significantly
+        if (currentTemperature > 35) {
+            return 2.5; // High temperature causes more water loss
+        } else if (currentTemperature > 30) {
+            return 2.0;
+        } else if (currentTemperature > 25) {
+            return 1.5;
+        } else if (currentTemperature < 15) {
+            return 1.2; // Cold temperature also increases water loss
+        } else if (currentTemperature < 10) {
+            return 1.5;
+        } else {
+            return 1.0; // Optimal temperature range
+        }
+    }
+
+    private int calculateRecoveryAmount(Plant plant) {
+        int recoveryAmount;
+
+        // Base recovery based on current health
+        if (plant.getHealth() < 30) {
+            recoveryAmount = 7;
+        } else if (plant.getHealth() < 50) {
+            recoveryAmount = 5;
+        } else {
+            recoveryAmount = 3;
+        }
+
+        // Adjust for water level
+        if (plant.getCurrentWaterLevel() >= 60) {
+            recoveryAmount += 2;
+        } else if (plant.getCurrentWaterLevel() < 40) {
+            recoveryAmount = Math.max(1, recoveryAmount - 1);
+        }
+
+        // Adjust for temperature
+        if (currentTemperature >= 20 && currentTemperature <= 30) {
+            recoveryAmount += 1;
+        } else if (currentTemperature > 35 || currentTemperature < 10) {
+            recoveryAmount = Math.max(1, recoveryAmount - 1);
+        }
+
+        return recoveryAmount;
+    }
+
+    private double calculateTemperatureMultiplier() {
+        if (currentTemperature > 35) return 1.5;
+        if (currentTemperature > 30) return 1.3;
+        if (currentTemperature > 25) return 1.1;
+        if (currentTemperature < 15) return 0.9;
+        if (currentTemperature < 10) return 0.7;
+        return 1.0;
+    }
+
+    private double calculateHealthMultiplier(Plant plant) {
+        if (plant.getHealth() < 30) return 1.5;
+        if (plant.getHealth() < 50) return 1.3;
+        return 1.0;
+    }
+
+    private void checkAndHandlePlantDeath(int cell, Plant plant) {
+        if (plant.getHealth() <= 0 && plants.holds(row(cell), col(cell), plant)) {
+            SimulationEvents.PlantDeath event = new SimulationEvents.PlantDeath();
+            event.begin();
+            clearCell(cell, true);
+            listener.cellCleared(row(cell), col(cell));
+
+            // Log the plant's death to both UI and file
+            listener.logImportant(Logger.LogLevel.WARNING, getCurrentTime() + " 💀 PLANT LOSS: " + plant.getName() + " has perished at coordinates (" +
+                row(cell) + ", " + col(cell) + "). Plant has been removed from the garden.\n");
+            if (event.shouldCommit()) {
+                event.row = row(cell);
+                event.col = col(cell);
+                event.plantType = plant.getPlantType().name();
+                event.plantCount = plants.size();
+                event.commit();
+            }
+        }
+    }
+
+    private Plant createPlant(String name, PlantSpec spec) {
+        // Species characteristics come from the shared profile of the type
+        return PlantFactory.createPlant(name, spec);
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Helpers
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * @param died True if the plant died, false if it was removed.
+     */
+    private void clearCell(int cell, boolean died) {
+        Plant plant = plants.remove(row(cell), col(cell));
+        if (plant != null) {
+            statistics.plantRemoved(plant, died);
+        }
+        markChanged(cell);
+
+        // Drops the cell's watering, recovery and status symbol timers
+        plantTimers.cancelAll(cell);
+    }
+
+    private void infest(int cell, InsectType insect) {
+        plants.setInfestation(row(cell), col(cell), plants.getInfestation(row(cell), col(cell)) | insect.bit());
+        markChanged(cell);
+    }
+
+    /**
+     * Records that the plant or infestation of a cell changed, for the next snapshot.
+     */
+    private void markChanged(int cell) {
+        if (stateStore != null) stateStore.markDirty(cell);
+        int chunk = cell / GardenSnapshot.CHUNK_SIZE;
+        if (changedChunkMarks.get(chunk)) return;
+        changedChunkMarks.set(chunk);
+        if (changedChunkCount == changedChunks.length) {
+            changedChunks = Arrays.copyOf(changedChunks, changedChunkCount * 2);
+        }
+        changedChunks[changedChunkCount++] = chunk;
+    }
+
+    private void notifyCellChanged(int cell) {
+        if (plants.contains(row(cell), col(cell))) {
+            listener.cellChanged(row(cell), col(cell));
+        }
+    }
+
+    /**
+     * @return The plant of a cell, or {@code null}; only valid until the next call, see
+     * {@link PlantStore#peek}.
+     */
+    private Plant plantAt(int cell) {
+        return plants.peek(row(cell), col(cell));
+    }
+
+    /**
+     * @return The plant of a cell, or {@code null}, for callers that keep it.
+     */
+    private Plant heldPlantAt(int cell) {
+        return plants.get(row(cell), col(cell));
+    }
+
+    /**
+     * @return The indices of all planted cells, in store order. A snapshot, so the caller may clear
+     * cells while iterating.
+     */
+    private int[] plantedCells() {
+        int[] cells = new int[plants.size()];
+        int[] count = {0};
+        plants.forEach((row, col, plant) -> cells[count[0]++] = cellIndex(row, col));
+        return cells;
+    }
+
+    private int cellIndex(int row, int col) {
+        return row * cols + col;
+    }
+
+    private int row(int cell) {
+        return cell / cols;
+    }
+
+    private int col(int cell) {
+        return cell % cols;
+    }
+
+    private String getCurrentDate() {
+        return new SimpleDateFormat("yyyy-MM-dd").format(new Date(getClock().currentTimeMillis()));
+    }
+
+    private String getCurrentTime() {
+        return new SimpleDateFormat("HH:mm:ss").format(new Date(getClock().currentTimeMillis()));
+    }
+}
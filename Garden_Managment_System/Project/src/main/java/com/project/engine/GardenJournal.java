@@ -0,0 +1,391 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.logger.Logger;
+import com.project.modules.Insect;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Append-only binary journal of every command that changes the garden, so {@link GardenReplay} can
+ * rebuild exactly how a garden got into its state.
+ *
+ * <p>Besides the user's commands, the journal holds the state changes the engine makes on its own:
+ * water reduction passes, automatic watering and health recovery ticks, automatic pest control and
+ * random insect attacks with the seed of their random choices. Replaying therefore needs neither
+ * timers nor the engine's random streams.</p>
+ *
+ * <p>Layout (big-endian): a header of int magic "GJNL", int format version, int rows, int cols,
+ * then records of unsigned short length (of the rest of the record), long simulated time, byte
+ * {@link Command} and the command's arguments. A record cut short by a crash is dropped when the
+ * journal is reopened.</p>
+ *
+ * <p>Records are collected in a direct buffer and written through a {@link FileChannel} when it is
+ * full, every {@value #FLUSH_INTERVAL_MILLIS} ms and before a save, so a crash of the process loses
+ * at most the last fraction of a second. Like the engine, the journal must only be used on the
+ * simulation executor.</p>
+ */
+public final class GardenJournal implements Closeable {
+
+    /**
+     * The journaled commands. The ordinal is stored, so commands are only ever appended.
+     */
+    enum Command {
+        PLANT,                  // int cell, byte plant type
+        PLANT_ALL,              // int row, int col, int rows, int cols, spec
+        REMOVE,                 // int cell
+        WATER,                  // int amount
+        TEMPERATURE,            // int temperature
+        INSECT_ATTACK,          // byte count, byte insect type per insect
+        RANDOM_INSECT_ATTACK,   // long seed of the attack's random choices
+        PEST_CONTROL,           // int insect type mask
+        AUTOMATIC_PEST_CONTROL, //
+        WATER_REDUCTION,        //
+        AUTOMATIC_WATERING,     // int cell
+        HEALTH_RECOVERY         // int cell
+    }
+
+    static final int MAGIC = 0x474a4e4c; // "GJNL"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+    static final int RECORD_HEADER_SIZE = Short.BYTES + Long.BYTES + 1;
+
+    private static final int MAX_RECORD_LENGTH = 0xffff;
+    private static final int BUFFER_SIZE = 1 << 17; // Holds the longest record
+    private static final long FLUSH_INTERVAL_MILLIS = 200;
+    private static final Command[] COMMANDS = Command.values();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long position; // Including buffered records
+    private long lastFlushNanos = System.nanoTime();
+    private boolean failed = false;
+
+    private GardenJournal(Path file, FileChannel channel, long position) {
+        this.file = file;
+        this.channel = channel;
+        this.position = position;
+    }
+
+    /**
+     * Opens a journal for appending, creating it if needed. An existing journal must belong to a
+     * garden of the same dimensions; a record cut short at its end is dropped.
+     *
+     * @throws IOException if the file cannot be opened or belongs to another garden.
+     */
+    public static GardenJournal open(Path file, int rows, int cols) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION).putInt(rows).putInt(cols);
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                return new GardenJournal(file, channel, HEADER_SIZE);
+            }
+            int[] dimensions = readHeader(channel, file);
+            if (dimensions[0] != rows || dimensions[1] != cols) {
+                throw new IOException("The journal " + file + " is for a " + dimensions[0] + "x" + dimensions[1] +
+                    " garden, not " + rows + "x" + cols);
+            }
+            Reader reader = new Reader(channel, HEADER_SIZE);
+            while (reader.next()) {
+                // Skip to the end of the last complete record
+            }
+            channel.truncate(reader.end());
+            channel.position(reader.end());
+            return new GardenJournal(file, channel, reader.end());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The position after the last record, including records not written out yet. A save
+     * stores it, so replay can continue from the saved state.
+     */
+    public long position() {
+        return position;
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Records
+    // ---------------------------------------------------------------------------------------------
+
+    void plant(long time, int cell, PlantType type) {
+        ByteBuffer record = begin(Command.PLANT, time, Integer.BYTES + 1);
+        if (record == null) return;
+        record.putInt(cell).put((byte) type.ordinal());
+        end();
+    }
+
+    void plantAll(long time, CellRegion region, PlantSpec spec) {
+        int specSize;
+        try {
+            specSize = PlantSpecCodec.encodedSize(spec);
+        } catch (IOException e) {
+            fail(e);
+            return;
+        }
+        ByteBuffer record = begin(Command.PLANT_ALL, time, 4 * Integer.BYTES + specSize);
+        if (record == null) return;
+        record.putInt(region.row()).putInt(region.col()).putInt(region.rows()).putInt(region.cols());
+        PlantSpecCodec.write(record, spec);
+        end();
+    }
+
+    void remove(long time, int cell) {
+        putInt(Command.REMOVE, time, cell);
+    }
+
+    void water(long time, int amount) {
+        putInt(Command.WATER, time, amount);
+    }
+
+    void temperature(long time, int temperature) {
+        putInt(Command.TEMPERATURE, time, temperature);
+    }
+
+    void insectAttack(long time, List<Insect> insects) {
+        if (insects.size() > 0xff) {
+            fail(new IOException("Too many insects to journal: " + insects.size()));
+            return;
+        }
+        ByteBuffer record = begin(Command.INSECT_ATTACK, time, 1 + insects.size());
+        if (record == null) return;
+        record.put((byte) insects.size());
+        for (Insect insect : insects) {
+            record.put((byte) insect.getType().ordinal());
+        }
+        end();
+    }
+
+    void randomInsectAttack(long time, long seed) {
+        ByteBuffer record = begin(Command.RANDOM_INSECT_ATTACK, time, Long.BYTES);
+        if (record == null) return;
+        record.putLong(seed);
+        end();
+    }
+
+    void pestControl(long time, int insectMask) {
+        putInt(Command.PEST_CONTROL, time, insectMask);
+    }
+
+    void automaticPestControl(long time) {
+        if (begin(Command.AUTOMATIC_PEST_CONTROL, time, 0) == null) return;
+        end();
+    }
+
+    void waterReduction(long time) {
+        if (begin(Command.WATER_REDUCTION, time, 0) == null) return;
+        end();
+    }
+
+    void automaticWatering(long time, int cell) {
+        putInt(Command.AUTOMATIC_WATERING, time, cell);
+    }
+
+    void healthRecovery(long time, int cell) {
+        putInt(Command.HEALTH_RECOVERY, time, cell);
+    }
+
+    private void putInt(Command command, long time, int value) {
+        ByteBuffer record = begin(command, time, Integer.BYTES);
+        if (record == null) return;
+        record.putInt(value);
+        end();
+    }
+
+    /**
+     * Starts a record with room for its arguments.
+     *
+     * @return The buffer to put the arguments into, or {@code null} if the journal failed.
+     */
+    private ByteBuffer begin(Command command, long time, int argumentSize) {
+        if (failed) return null;
+        int size = RECORD_HEADER_SIZE + argumentSize;
+        if (size - Short.BYTES > MAX_RECORD_LENGTH) {
+            fail(new IOException("Journal record too long: " + size + " bytes"));
+            return null;
+        }
+        if (buffer.remaining() < size) {
+            flush();
+            if (failed) return null;
+        }
+        buffer.putShort((short) (size - Short.BYTES)).putLong(time).put((byte) command.ordinal());
+        position += size;
+        return buffer;
+    }
+
+    private void end() {
+        if (System.nanoTime() - lastFlushNanos >= FLUSH_INTERVAL_MILLIS * 1_000_000) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes the buffered records to the file. A write error is logged once and stops the journal;
+     * the simulation carries on.
+     */
+    public void flush() {
+        lastFlushNanos = System.nanoTime();
+        if (failed || buffer.position() == 0) return;
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+        buffer.clear();
+    }
+
+    private void fail(IOException e) {
+        failed = true;
+        Logger.log(Logger.LogLevel.ERROR, "Journal " + file + " stopped recording: " + e.getMessage());
+    }
+
+    /**
+     * Writes the buffered records and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Reading
+    // ---------------------------------------------------------------------------------------------
+
+    /**
+     * Checks the header of a journal.
+     *
+     * @return The rows and columns of the journal's garden.
+     * @throws IOException if the file is not a journal of a supported version.
+     */
+    static int[] readHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.position(0);
+        while (header.hasRemaining()) {
+            if (channel.read(header) < 0) {
+                throw new IOException(file + " is not a garden journal");
+            }
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException(file + " is not a garden journal");
+        }
+        int version = header.getInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported garden journal format version " + version);
+        }
+        return new int[]{header.getInt(), header.getInt()};
+    }
+
+    /**
+     * Reads the complete records of a journal block by block through a direct buffer. Stops at
+     * the end of the file or at a record cut short by a crash.
+     */
+    static final class Reader {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private long bufferStart; // File position of the first byte in the buffer
+        private long end;         // File position after the last complete record
+        private boolean exhausted = false;
+
+        private long time;
+        private Command command;
+
+        /**
+         * @param from The position of the first record to read.
+         */
+        Reader(FileChannel channel, long from) throws IOException {
+            this.channel = channel;
+            this.bufferStart = from;
+            this.end = from;
+            channel.position(from);
+            buffer.flip(); // Starts empty
+        }
+
+        /**
+         * Moves to the next record; its arguments are then in {@link #arguments()}.
+         *
+         * @return False at the end of the journal.
+         * @throws IOException if the record is not a journal record.
+         */
+        boolean next() throws IOException {
+            // Skip the rest of the current record
+            buffer.position((int) (end - bufferStart));
+            if (!fill(Short.BYTES)) return false;
+            int length = Short.toUnsignedInt(buffer.getShort(buffer.position()));
+            if (length < RECORD_HEADER_SIZE - Short.BYTES) {
+                throw new IOException("Malformed journal record at position " + end);
+            }
+            if (!fill(Short.BYTES + length)) return false;
+            buffer.position(buffer.position() + Short.BYTES);
+            time = buffer.getLong();
+            int ordinal = Byte.toUnsignedInt(buffer.get());
+            if (ordinal >= COMMANDS.length) {
+                throw new IOException("Unknown journal command " + ordinal + " at position " + end);
+            }
+            command = COMMANDS[ordinal];
+            end += Short.BYTES + length;
+            return true;
+        }
+
+        /**
+         * Makes sure the next {@code bytes} bytes are in the buffer.
+         *
+         * @return False if the journal ends before.
+         */
+        private boolean fill(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) return true;
+            if (exhausted) return false;
+            bufferStart += buffer.position();
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    exhausted = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.remaining() >= bytes;
+        }
+
+        long time() {
+            return time;
+        }
+
+        Command command() {
+            return command;
+        }
+
+        /**
+         * @return The buffer, positioned at the current record's arguments.
+         */
+        ByteBuffer arguments() {
+            return buffer;
+        }
+
+        /**
+         * @return The position after the last complete record read.
+         */
+        long end() {
+            return end;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.engine;
+
+import com.project.logger.Logger;
+
+/**
+ * Callback interface through which a {@link GardenEngine} reports state changes to its front end.
+ * All callbacks are invoked on the engine's simulation executor. Every method has an empty default
+ * so headless clients only override what they care about.
+ */
+public interface GardenListener {
+
+    /**
+     * Called when the plant, insects or status symbols of a planted cell changed.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     */
+    default void cellChanged(int row, int col) {
+    }
+
+    /**
+     * Called when a cell became empty because its plant died or was removed.
+     *
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     */
+    default void cellCleared(int row, int col) {
+    }
+
+    /**
+     * Called when a new simulated day has begun.
+     *
+     * @param day The (1-based) number of the new day.
+     */
+    default void dayChanged(int day) {
+    }
+
+    /**
+     * Routine activity message.
+     *
+     * @param level   The severity of the message.
+     * @param message The message, already time-stamped.
+     */
+    default void log(Logger.LogLevel level, String message) {
+    }
+
+    /**
+     * Tells the engine whether routine messages of a level are used at all, so its ticks can skip
+     * building the per-plant messages nobody reads.
+     *
+     * @param level The severity of the messages.
+     * @return False if {@link #log} ignores messages of this level; true by default.
+     */
+    default boolean isLogging(Logger.LogLevel level) {
+        return true;
+    }
+
+    /**
+     * Activity message that should also be persisted (deaths, severe damage, reports).
+     *
+     * @param level   The severity of the message.
+     * @param message The message, already time-stamped.
+     */
+    default void logImportant(Logger.LogLevel level, String message) {
+    }
+
+    /**
+     * Critical garden condition that should be brought to the user's attention.
+     *
+     * @param title   The alert title.
+     * @param content The alert body.
+     */
+    default void alert(String title, String content) {
+    }
+}
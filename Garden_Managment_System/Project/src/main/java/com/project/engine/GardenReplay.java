@@ -0,0 +1,171 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.logger.Logger;
+import com.project.modules.Insect;
+import com.project.modules.InsectType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Rebuilds a garden from its last save and its {@link GardenJournal}, to find out exactly how it
+ * got into its state or to recover the commands made after the last save.
+ *
+ * <p>The journaled commands are applied in order, with simulated time jumping straight to each
+ * command's time. No timers run and nothing waits, so replay goes at full CPU speed: the engine
+ * only does the work of the commands themselves.</p>
+ *
+ * <p>Usage: {@code GardenReplay <journal> [save file]}. Replays the journal from the position of
+ * the save file, or from the start into an empty garden, and prints the performance report.</p>
+ */
+public final class GardenReplay {
+
+    private GardenReplay() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: GardenReplay <journal> [save file]");
+            System.exit(2);
+        }
+        Path journal = Path.of(args[0]);
+        int[] dimensions;
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ)) {
+            dimensions = GardenJournal.readHeader(channel, journal);
+        }
+
+        // Per-command INFO messages would dominate the replay
+        Logger.setConsoleLogging(false);
+        Logger.setMinimumLevel(Logger.LogLevel.WARNING);
+        Logger.enableAsync(200, 65536, Logger.OverflowPolicy.COUNT);
+
+        GardenEngine engine = new GardenEngine(dimensions[0], dimensions[1], Runnable::run, new GardenListener() {
+            @Override
+            public boolean isLogging(Logger.LogLevel level) {
+                return false; // Routine messages are dropped anyway
+            }
+        });
+        long startNanos = System.nanoTime();
+        long from = args.length > 1 ? GardenSaveFile.load(engine, Path.of(args[1])) : -1;
+        int days = engine.getDaysElapsed();
+        long commands = replay(engine, journal, from);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        System.out.println(engine.getState());
+        System.out.println("Replayed " + commands + " commands over " + (engine.getDaysElapsed() - days) + " days of a " +
+            dimensions[0] + "x" + dimensions[1] + " garden in " + elapsedMillis + " ms.");
+
+        engine.stop();
+        Logger.shutdown();
+    }
+
+    /**
+     * Replays a journal into an engine that has not started, e.g. one just restored from a save.
+     * Must be called on the simulation thread.
+     *
+     * @param from The journal position to start at, as returned by {@link GardenSaveFile#load};
+     *             negative to replay the whole journal.
+     * @return The number of replayed commands.
+     * @throws IOException           if the journal cannot be read, is damaged or does not fit the engine.
+     * @throws IllegalStateException if the engine has run or journals its commands.
+     */
+    public static long replay(GardenEngine engine, Path journal, long from) throws IOException {
+        if (!Files.exists(journal)) return 0;
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ)) {
+            int[] dimensions = GardenJournal.readHeader(channel, journal);
+            if (dimensions[0] != engine.getRows() || dimensions[1] != engine.getCols()) {
+                throw new IOException("The journal is for a " + dimensions[0] + "x" + dimensions[1] + " garden, not " +
+                    engine.getRows() + "x" + engine.getCols());
+            }
+            long start = Math.max(from, GardenJournal.HEADER_SIZE);
+            if (start >= channel.size()) return 0;
+
+            GardenJournal.Reader reader = new GardenJournal.Reader(channel, start);
+            long commands = 0;
+            engine.beginReplay();
+            try {
+                while (reader.next()) {
+                    engine.replayUntil(reader.time());
+                    apply(engine, reader.command(), reader.arguments());
+                    commands++;
+                }
+            } finally {
+                engine.endReplay();
+            }
+            return commands;
+        }
+    }
+
+    private static void apply(GardenEngine engine, GardenJournal.Command command, ByteBuffer arguments) throws IOException {
+        int cols = engine.getCols();
+        switch (command) {
+            case PLANT: {
+                int cell = arguments.getInt();
+                engine.plant(cell / cols, cell % cols, PlantSpecCodec.readType(arguments));
+                break;
+            }
+            case PLANT_ALL: {
+                CellRegion region = new CellRegion(arguments.getInt(), arguments.getInt(), arguments.getInt(), arguments.getInt());
+                PlantSpec spec = PlantSpecCodec.read(arguments);
+                engine.plantAll(region, spec.getPlantType(), spec);
+                break;
+            }
+            case REMOVE: {
+                int cell = arguments.getInt();
+                engine.removePlant(cell / cols, cell % cols);
+                break;
+            }
+            case WATER:
+                engine.waterAll(arguments.getInt());
+                break;
+            case TEMPERATURE:
+                engine.setTemperature(arguments.getInt());
+                break;
+            case INSECT_ATTACK: {
+                int count = Byte.toUnsignedInt(arguments.get());
+                List<Insect> insects = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    insects.add(new Insect(insectType(arguments.get())));
+                }
+                engine.insectAttack(insects);
+                break;
+            }
+            case RANDOM_INSECT_ATTACK:
+                engine.randomInsectAttack(new SplittableRandom(arguments.getLong()));
+                break;
+            case PEST_CONTROL:
+                engine.applyPestControl(InsectType.setOf(arguments.getInt()));
+                break;
+            case AUTOMATIC_PEST_CONTROL:
+                engine.automaticPestControl();
+                break;
+            case WATER_REDUCTION:
+                engine.reduceWater();
+                break;
+            case AUTOMATIC_WATERING:
+                engine.replayAutomaticWatering(arguments.getInt());
+                break;
+            case HEALTH_RECOVERY:
+                engine.replayHealthRecovery(arguments.getInt());
+                break;
+            default:
+                throw new IOException("Unsupported journal command " + command);
+        }
+    }
+
+    private static InsectType insectType(byte ordinal) throws IOException {
+        InsectType[] types = InsectType.values();
+        if (ordinal < 0 || ordinal >= types.length) {
+            throw new IOException("Unknown insect type " + ordinal);
+        }
+        return types[ordinal];
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.engine;
+
+/**
+ * Everything a save file holds, captured on the simulation thread and immutable afterwards, so it
+ * can be written on any thread.
+ *
+ * @param snapshot        The plants, temperature and simulated time.
+ * @param randomSeed      The seed of the garden's random choices.
+ * @param journalPosition The position in the journal of the captured state, or -1 without a journal.
+ */
+record GardenSaveData(GardenSnapshot snapshot, long randomSeed, long journalPosition, int totalPlantsPlanted, int totalPlantsDied,
+                      int totalPlantsRemoved, int totalWaterAdded, int totalPestControlsApplied) {
+}
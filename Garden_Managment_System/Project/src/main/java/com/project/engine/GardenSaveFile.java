@@ -0,0 +1,301 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Compact, versioned binary save file of a whole garden: simulated time, temperature, random seed,
+ * lifetime totals and, for every plant, its cell, parameters, health, water level, infestation and
+ * whether it is recovering from a pest control treatment.
+ *
+ * <p>Layout (big-endian):</p>
+ * <pre>
+ * int   magic "GARD", int format version
+ * int   rows, int cols, long simulated time, int temperature, long random seed
+ * long  position in the {@link GardenJournal} of the saved state, or -1 without a journal
+ * int   plants planted, died, removed, water added, pest controls applied
+ * int   spec count, then per spec: short length, the spec as encoded by {@link PlantSpecCodec}
+ * int   plant count, then per plant (9 bytes): int cell, short spec index, byte health,
+ *       byte water level, byte flags (bits 0-3 infestation, bit 4 recovering)
+ * long  CRC32 of everything before it
+ * </pre>
+ *
+ * <p>The file is written and read in blocks through a {@link FileChannel} and one direct buffer.
+ * A save goes to a temporary file that replaces the old one atomically, so a crash mid-save leaves
+ * the previous save intact. A load verifies the checksum before it touches the engine.</p>
+ */
+public final class GardenSaveFile {
+
+    private static final int MAGIC = 0x47415244; // "GARD"
+    private static final int FORMAT_VERSION = 2;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int PLANT_RECORD_SIZE = 9;
+    private static final int RECOVERING_FLAG = 0x10;
+    private static final int INFESTATION_MASK = 0x0f;
+
+    private GardenSaveFile() {
+    }
+
+    /**
+     * Saves the garden. Must be called on the simulation thread; see {@link GardenAutosave} for
+     * saving in the background.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public static void save(GardenEngine engine, Path file) throws IOException {
+        write(engine.captureSaveData(), file);
+    }
+
+    /**
+     * Writes captured save data; may be called on any thread.
+     */
+    static void write(GardenSaveData data, Path file) throws IOException {
+        GardenSnapshot snapshot = data.snapshot();
+
+        // Most plants share the default spec of their type, so specs are stored once in a table
+        Map<PlantSpec, Integer> specIndices = new HashMap<>();
+        List<PlantSpec> specs = new ArrayList<>();
+        snapshot.forEach(plant -> specIndices.computeIfAbsent(plant.spec(), spec -> {
+            specs.add(spec);
+            return specs.size() - 1;
+        }));
+        if (specs.size() > 0xffff) {
+            throw new IOException("Too many distinct plant parameters to save: " + specs.size());
+        }
+        int[] specSizes = new int[specs.size()];
+        for (int i = 0; i < specSizes.length; i++) {
+            specSizes[i] = PlantSpecCodec.encodedSize(specs.get(i));
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            BlockWriter out = new BlockWriter(channel);
+            ByteBuffer buffer = out.buffer;
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION);
+            buffer.putInt(snapshot.getRows()).putInt(snapshot.getCols());
+            buffer.putLong(snapshot.getSimulatedTime()).putInt(snapshot.getTemperature()).putLong(data.randomSeed());
+            buffer.putLong(data.journalPosition());
+            buffer.putInt(data.totalPlantsPlanted()).putInt(data.totalPlantsDied()).putInt(data.totalPlantsRemoved())
+                .putInt(data.totalWaterAdded()).putInt(data.totalPestControlsApplied());
+
+            buffer.putInt(specs.size());
+            for (int i = 0; i < specSizes.length; i++) {
+                out.ensureRemaining(Short.BYTES + specSizes[i]);
+                buffer.putShort((short) specSizes[i]);
+                PlantSpecCodec.write(buffer, specs.get(i));
+            }
+
+            out.ensureRemaining(Integer.BYTES);
+            buffer.putInt(snapshot.getPlantCount());
+            int cols = snapshot.getCols();
+            snapshot.forEach(plant -> {
+                out.ensureRemaining(PLANT_RECORD_SIZE);
+                buffer.putInt(plant.row() * cols + plant.col());
+                buffer.putShort((short) (int) specIndices.get(plant.spec()));
+                buffer.put((byte) plant.health());
+                buffer.put((byte) plant.waterLevel());
+                buffer.put((byte) ((plant.infestation() & INFESTATION_MASK) | (plant.recovering() ? RECOVERING_FLAG : 0)));
+            });
+            out.finish();
+            channel.force(false);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restores a saved garden into a new engine, before it is started. Must be called on the
+     * simulation thread. The engine takes over the saved random seed. Nothing is restored if the
+     * file is damaged or belongs to a garden of other dimensions.
+     *
+     * @return The position in the {@link GardenJournal} of the saved state, from which
+     * {@link GardenReplay} continues, or -1 if the garden was saved without a journal.
+     * @throws IOException           if the file cannot be read, is damaged or does not fit the engine.
+     * @throws IllegalStateException if the engine already has plants or has run.
+     */
+    public static long load(GardenEngine engine, Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            verifyChecksum(channel);
+            channel.position(0);
+            BlockReader in = new BlockReader(channel);
+            ByteBuffer buffer = in.buffer;
+
+            in.require(2 * Integer.BYTES);
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(file + " is not a garden save file");
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported garden save format version " + version);
+            }
+
+            in.require(4 * Integer.BYTES + 3 * Long.BYTES + 5 * Integer.BYTES + Integer.BYTES);
+            int rows = buffer.getInt();
+            int cols = buffer.getInt();
+            if (rows != engine.getRows() || cols != engine.getCols()) {
+                throw new IOException("The save file is for a " + rows + "x" + cols + " garden, not " +
+                    engine.getRows() + "x" + engine.getCols());
+            }
+            long simulatedTime = buffer.getLong();
+            int temperature = buffer.getInt();
+            long seed = buffer.getLong();
+            long journalPosition = buffer.getLong();
+            int planted = buffer.getInt();
+            int died = buffer.getInt();
+            int removed = buffer.getInt();
+            int waterAdded = buffer.getInt();
+            int pestControls = buffer.getInt();
+
+            PlantSpec[] specs = new PlantSpec[buffer.getInt()];
+            for (int i = 0; i < specs.length; i++) {
+                in.require(Short.BYTES);
+                int size = Short.toUnsignedInt(buffer.getShort());
+                in.require(size);
+                int end = buffer.position() + size;
+                specs[i] = PlantSpecCodec.read(buffer);
+                if (buffer.position() != end) {
+                    throw new IOException("Garden save file has a malformed plant parameter entry");
+                }
+            }
+
+            in.require(Integer.BYTES);
+            int plantCount = buffer.getInt();
+            engine.beginRestore(simulatedTime, temperature, seed);
+            for (int i = 0; i < plantCount; i++) {
+                in.require(PLANT_RECORD_SIZE);
+                int cell = buffer.getInt();
+                PlantSpec spec = specs[Short.toUnsignedInt(buffer.getShort())];
+                int health = buffer.get();
+                int waterLevel = buffer.get();
+                int flags = buffer.get();
+                engine.restorePlant(cell, spec, health, waterLevel, flags & INFESTATION_MASK, (flags & RECOVERING_FLAG) != 0);
+            }
+            engine.finishRestore(planted, died, removed, waterAdded, pestControls);
+            return journalPosition;
+        }
+    }
+
+    /**
+     * Checks the trailing CRC32 against the rest of the file.
+     */
+    private static void verifyChecksum(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < Long.BYTES) {
+            throw new IOException("Garden save file is truncated");
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        CRC32 crc = new CRC32();
+        long remaining = size - Long.BYTES;
+        channel.position(0);
+        while (remaining > 0) {
+            buffer.clear().limit((int) Math.min(buffer.capacity(), remaining));
+            int read = channel.read(buffer);
+            if (read < 0) {
+                throw new IOException("Garden save file is truncated");
+            }
+            remaining -= read;
+            buffer.flip();
+            crc.update(buffer);
+        }
+        buffer.clear().limit(Long.BYTES);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Garden save file is truncated");
+            }
+        }
+        if (buffer.flip().getLong() != crc.getValue()) {
+            throw new IOException("Garden save file is damaged (checksum mismatch)");
+        }
+    }
+
+    /**
+     * Fills a direct buffer and writes it out whenever the next value does not fit, updating the
+     * checksum on the way.
+     */
+    private static final class BlockWriter {
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final FileChannel channel;
+        private final CRC32 crc = new CRC32();
+
+        BlockWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void ensureRemaining(int bytes) {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            buffer.flip();
+            crc.update(buffer);
+            buffer.rewind();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // Carried out of the snapshot visitor
+            }
+            buffer.clear();
+        }
+
+        void finish() {
+            flush();
+            buffer.putLong(crc.getValue());
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // Carried out of the snapshot visitor
+            }
+        }
+    }
+
+    /**
+     * Reads the file block by block into a direct buffer.
+     */
+    private static final class BlockReader {
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final FileChannel channel;
+
+        BlockReader(FileChannel channel) {
+            this.channel = channel;
+            buffer.flip(); // Starts empty
+        }
+
+        /**
+         * Makes sure the next {@code bytes} bytes are in the buffer.
+         */
+        void require(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) return;
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Garden save file is truncated");
+                }
+            }
+            buffer.flip();
+        }
+    }
+}
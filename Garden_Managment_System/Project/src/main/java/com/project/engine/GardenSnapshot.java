@@ -0,0 +1,256 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.modules.Plant;
+import com.project.modules.SpeciesProfile;
+
+import java.util.function.Consumer;
+
+/**
+ * Immutable, consistent view of every plant of a garden at one point of simulated time. Snapshots
+ * can be read from any thread without locking the simulation.
+ *
+ * <p>The cells are stored in chunks of {@value #CHUNK_SIZE} consecutive cell indices, which are the
+ * leaves of a tree of {@value #CHUNK_SIZE}-way tables. A new snapshot shares every chunk and table
+ * without changes with its predecessor and only copies the path from the root to each changed
+ * chunk, so taking one costs O(changed chunks &times; (tree depth + {@value #CHUNK_SIZE})) whatever
+ * the size of the grid; the depth is at most five. A chunk keeps no objects per plant, only a reference to its shared spec and its
+ * state packed into an {@code int}; the {@link PlantSnapshot}s are created as they are read. The
+ * {@link #getVersion() version} only increases when a plant, an infestation or
+ * the temperature changed, so readers can cheaply tell whether they are up to date.</p>
+ */
+public final class GardenSnapshot {
+
+    /**
+     * Number of consecutive cells per chunk.
+     */
+    public static final int CHUNK_SIZE = 64;
+
+    private static final int CHUNK_SHIFT = 6; // log2(CHUNK_SIZE)
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final long version;
+    private final int rows;
+    private final int cols;
+    private final long simulatedTime;
+    private final int temperature;
+    // Tables of depth levels above the chunks; a table at level 1 holds chunks, missing ones are null
+    private final Object[] root;
+    private final int depth;
+    private final int plantCount;
+
+    /**
+     * The cells of a chunk: the spec of each plant, {@code null} if the cell is empty, and its
+     * packed state, see {@link #pack}.
+     */
+    private static final class Chunk {
+        final PlantSpec[] specs;
+        final int[] states;
+
+        Chunk() {
+            this(new PlantSpec[CHUNK_SIZE], new int[CHUNK_SIZE]);
+        }
+
+        private Chunk(PlantSpec[] specs, int[] states) {
+            this.specs = specs;
+            this.states = states;
+        }
+
+        Chunk copy() {
+            return new Chunk(specs.clone(), states.clone());
+        }
+    }
+
+    private GardenSnapshot(long version, int rows, int cols, long simulatedTime, int temperature,
+                           Object[] root, int depth, int plantCount) {
+        this.version = version;
+        this.rows = rows;
+        this.cols = cols;
+        this.simulatedTime = simulatedTime;
+        this.temperature = temperature;
+        this.root = root;
+        this.depth = depth;
+        this.plantCount = plantCount;
+    }
+
+    /**
+     * @return The snapshot of an empty garden, version 0.
+     */
+    static GardenSnapshot empty(int rows, int cols, long simulatedTime, int temperature) {
+        long cellCount = (long) rows * cols;
+        int depth = 1;
+        while (1L << (CHUNK_SHIFT * (depth + 1)) < cellCount) {
+            depth++;
+        }
+        return new GardenSnapshot(0, rows, cols, simulatedTime, temperature, new Object[CHUNK_SIZE], depth, 0);
+    }
+
+    /**
+     * Derives the next snapshot from this one.
+     *
+     * @param simulatedTime The simulated time of the new snapshot.
+     * @param temperature   The garden temperature.
+     * @param changedChunks The indices of the chunks ({@code cell / CHUNK_SIZE}) with cells that
+     *                      changed since this snapshot; duplicates are allowed.
+     * @param changedCount  The number of valid entries of {@code changedChunks}.
+     * @param cells         Reads the current state of the cells.
+     * @return The new snapshot; without changes it shares everything with this one except the time.
+     */
+    GardenSnapshot next(long simulatedTime, int temperature, int[] changedChunks, int changedCount, CellReader cells) {
+        if (changedCount == 0 && temperature == this.temperature) {
+            return simulatedTime == this.simulatedTime ? this
+                : new GardenSnapshot(version, rows, cols, simulatedTime, temperature, root, depth, plantCount);
+        }
+
+        Object[] nextRoot = root.clone();
+        int nextPlantCount = plantCount;
+        int cellCount = rows * cols;
+        for (int i = 0; i < changedCount; i++) {
+            int firstCell = changedChunks[i] << CHUNK_SHIFT;
+            // Walk this snapshot's path next to the new one: a node that is still the same object is
+            // shared and must be copied before the first write, a node that differs is already a copy
+            Object[] table = nextRoot;
+            Object[] previousTable = root;
+            for (int level = depth; level > 1; level--) {
+                int index = (firstCell >>> (CHUNK_SHIFT * level)) & CHUNK_MASK;
+                Object[] child = (Object[]) table[index];
+                Object[] previousChild = previousTable != null ? (Object[]) previousTable[index] : null;
+                if (child == previousChild) {
+                    child = child == null ? new Object[CHUNK_SIZE] : child.clone();
+                    table[index] = child;
+                }
+                table = child;
+                previousTable = previousChild;
+            }
+
+            int index = (firstCell >>> CHUNK_SHIFT) & CHUNK_MASK;
+            Chunk chunk = (Chunk) table[index];
+            if (chunk == (previousTable != null ? previousTable[index] : null)) {
+                chunk = chunk == null ? new Chunk() : chunk.copy();
+                table[index] = chunk;
+            }
+            // Reread every cell of the chunk; the last chunk may reach past the grid
+            int chunkCells = Math.min(CHUNK_SIZE, cellCount - firstCell);
+            for (int offset = 0; offset < chunkCells; offset++) {
+                int cell = firstCell + offset;
+                nextPlantCount -= chunk.specs[offset] != null ? 1 : 0;
+                Plant plant = cells.plantAt(cell);
+                if (plant == null) {
+                    chunk.specs[offset] = null;
+                    chunk.states[offset] = 0;
+                } else {
+                    chunk.states[offset] = pack(plant.getHealth(), plant.getCurrentWaterLevel(), cells.infestationAt(cell), cells.isRecovering(cell));
+                    chunk.specs[offset] = cells.specAt(cell);
+                    nextPlantCount++;
+                }
+            }
+        }
+        return new GardenSnapshot(version + 1, rows, cols, simulatedTime, temperature, nextRoot, depth, nextPlantCount);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return The simulated time of the snapshot, in milliseconds since the start of the simulation.
+     */
+    public long getSimulatedTime() {
+        return simulatedTime;
+    }
+
+    /**
+     * @return The garden temperature in °C.
+     */
+    public int getTemperature() {
+        return temperature;
+    }
+
+    public int getPlantCount() {
+        return plantCount;
+    }
+
+    /**
+     * @return The plant in the given cell, or {@code null} if the cell was empty.
+     * @throws IndexOutOfBoundsException if the cell is outside the grid.
+     */
+    public PlantSnapshot getPlant(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Cell (" + row + ", " + col + ") is outside the " + rows + "x" + cols + " garden");
+        }
+        int cell = row * cols + col;
+        Chunk chunk = chunkOf(cell);
+        return chunk != null ? plantSnapshot(chunk, cell) : null;
+    }
+
+    /**
+     * @return The chunk holding a cell, or {@code null} if no plant was ever in its chunk. A chunk
+     * shared with another snapshot is the same object in both.
+     */
+    Chunk chunkOf(int cell) {
+        Object[] table = root;
+        for (int level = depth; level > 1 && table != null; level--) {
+            table = (Object[]) table[(cell >>> (CHUNK_SHIFT * level)) & CHUNK_MASK];
+        }
+        return table != null ? (Chunk) table[(cell >>> CHUNK_SHIFT) & CHUNK_MASK] : null;
+    }
+
+    /**
+     * Passes every plant to the action, in row-major order.
+     */
+    public void forEach(Consumer<? super PlantSnapshot> action) {
+        forEach(root, depth, 0, action);
+    }
+
+    /**
+     * @param firstCell The first cell covered by the table.
+     */
+    private void forEach(Object[] table, int level, int firstCell, Consumer<? super PlantSnapshot> action) {
+        for (int index = 0; index < CHUNK_SIZE; index++) {
+            Object child = table[index];
+            if (child == null) continue;
+            int childFirstCell = firstCell + (index << (CHUNK_SHIFT * level));
+            if (level > 1) {
+                forEach((Object[]) child, level - 1, childFirstCell, action);
+                continue;
+            }
+            Chunk chunk = (Chunk) child;
+            for (int offset = 0; offset < CHUNK_SIZE; offset++) {
+                if (chunk.specs[offset] != null) {
+                    action.accept(plantSnapshot(chunk, childFirstCell + offset));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The plant of a cell of the chunk, or {@code null} if it is empty.
+     */
+    private PlantSnapshot plantSnapshot(Chunk chunk, int cell) {
+        int offset = cell & CHUNK_MASK;
+        PlantSpec spec = chunk.specs[offset];
+        if (spec == null) return null;
+        int state = chunk.states[offset];
+        PlantType type = spec.getPlantType();
+        // Plants are named like the engine names them
+        return new PlantSnapshot(cell / cols, cell % cols, type.name() + " " + cell, SpeciesProfile.of(type), spec,
+            state & 0xff, (state >>> 8) & 0xff, (state >>> 16) & 0x7fff, state < 0);
+    }
+
+    /**
+     * @return The state of a plant as kept in a chunk: health in bits 0-7, water level in bits 8-15,
+     * infestation in bits 16-30 and the recovering flag in bit 31.
+     */
+    private static int pack(int health, int waterLevel, int infestation, boolean recovering) {
+        return health | waterLevel << 8 | infestation << 16 | (recovering ? 1 << 31 : 0);
+    }
+}
@@ -0,0 +1,156 @@
+package com.project.engine;
+
+import com.project.factory.PlantType;
+import com.project.modules.Plant;
+
+/**
+ * Garden statistics kept up to date by the engine as it plants, mutates and removes plants, so
+ * every query is O(1) however large the garden is. Like the rest of the engine state, it must only
+ * be used on the simulation executor.
+ *
+ * <p>Plants are bucketed by health: healthy (80% and above), stressed (50-79%) and dying (below 50%).</p>
+ */
+public class GardenStatistics {
+
+    private static final int HEALTHY = 0;
+    private static final int STRESSED = 1;
+    private static final int DYING = 2;
+
+    private final int[] plantCountsByType = new int[PlantType.values().length];
+    private final int[] plantCountsByHealth = new int[3];
+    private int plantCount = 0;
+    private long healthSum = 0;
+    private long waterLevelSum = 0;
+
+    private int totalPlantsPlanted = 0;
+    private int totalPlantsDied = 0;
+    private int totalPlantsRemoved = 0;
+    private int totalWaterAdded = 0;
+    private int totalPestControlsApplied = 0;
+
+    private static int healthBucket(int health) {
+        if (health >= 80) return HEALTHY;
+        if (health >= 50) return STRESSED;
+        return DYING;
+    }
+
+    void plantAdded(Plant plant) {
+        totalPlantsPlanted++;
+        plantCount++;
+        plantCountsByType[plant.getPlantType().ordinal()]++;
+        plantCountsByHealth[healthBucket(plant.getHealth())]++;
+        healthSum += plant.getHealth();
+        waterLevelSum += plant.getCurrentWaterLevel();
+    }
+
+    /**
+     * @param died True if the plant died, false if the user removed it.
+     */
+    void plantRemoved(Plant plant, boolean died) {
+        if (died) {
+            totalPlantsDied++;
+        } else {
+            totalPlantsRemoved++;
+        }
+        plantCount--;
+        plantCountsByType[plant.getPlantType().ordinal()]--;
+        plantCountsByHealth[healthBucket(plant.getHealth())]--;
+        healthSum -= plant.getHealth();
+        waterLevelSum -= plant.getCurrentWaterLevel();
+    }
+
+    /**
+     * Records a change of a planted plant's health and water level.
+     *
+     * @param plant         The plant, already changed.
+     * @param oldHealth     Its health before the change.
+     * @param oldWaterLevel Its water level before the change.
+     */
+    void plantChanged(Plant plant, int oldHealth, int oldWaterLevel) {
+        healthChanged(oldHealth, plant.getHealth());
+        waterLevelSum += plant.getCurrentWaterLevel() - oldWaterLevel;
+    }
+
+    /**
+     * Records a change of a planted plant's health.
+     */
+    void healthChanged(int oldHealth, int newHealth) {
+        if (oldHealth == newHealth) return;
+        plantCountsByHealth[healthBucket(oldHealth)]--;
+        plantCountsByHealth[healthBucket(newHealth)]++;
+        healthSum += newHealth - oldHealth;
+    }
+
+    void waterAdded(int amount) {
+        totalWaterAdded += amount;
+    }
+
+    void pestControlApplied() {
+        totalPestControlsApplied++;
+    }
+
+    /**
+     * Replaces the lifetime totals with the ones of a restored garden.
+     */
+    void restoreTotals(int planted, int died, int removed, int waterAdded, int pestControlsApplied) {
+        totalPlantsPlanted = planted;
+        totalPlantsDied = died;
+        totalPlantsRemoved = removed;
+        totalWaterAdded = waterAdded;
+        totalPestControlsApplied = pestControlsApplied;
+    }
+
+    public int getPlantCount() {
+        return plantCount;
+    }
+
+    public int getPlantCount(PlantType type) {
+        return plantCountsByType[type.ordinal()];
+    }
+
+    public int getHealthyPlantCount() {
+        return plantCountsByHealth[HEALTHY];
+    }
+
+    public int getStressedPlantCount() {
+        return plantCountsByHealth[STRESSED];
+    }
+
+    public int getDyingPlantCount() {
+        return plantCountsByHealth[DYING];
+    }
+
+    /**
+     * @return The average health of the planted plants, or 0 if the garden is empty.
+     */
+    public double getAverageHealth() {
+        return plantCount > 0 ? (double) healthSum / plantCount : 0;
+    }
+
+    /**
+     * @return The average water level of the planted plants, or 0 if the garden is empty.
+     */
+    public double getAverageWaterLevel() {
+        return plantCount > 0 ? (double) waterLevelSum / plantCount : 0;
+    }
+
+    public int getTotalPlantsPlanted() {
+        return totalPlantsPlanted;
+    }
+
+    public int getTotalPlantsDied() {
+        return totalPlantsDied;
+    }
+
+    public int getTotalPlantsRemoved() {
+        return totalPlantsRemoved;
+    }
+
+    public int getTotalWaterAdded() {
+        return totalWaterAdded;
+    }
+
+    public int getTotalPestControlsApplied() {
+        return totalPestControlsApplied;
+    }
+}
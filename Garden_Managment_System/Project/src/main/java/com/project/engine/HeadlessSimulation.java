@@ -0,0 +1,57 @@
+package com.project.engine;
+
+import com.project.factory.PlantType;
+import com.project.logger.Logger;
+
+/**
+ * Command-line entry point that runs a garden without JavaFX, as fast as the CPU allows.
+ *
+ * <p>Usage: {@code HeadlessSimulation [gridSize | ROWSxCOLS] [days] [spacing] [seed]}. Every
+ * {@code spacing}-th row and column is planted (cycling through the plant types; 1 plants every
+ * cell), the requested number of simulated days is run on the calling thread and the final
+ * performance report is printed. A large spacing gives a big, sparse garden. Runs with the same
+ * arguments and seed are identical; without a seed a new one is drawn and shown in the report.</p>
+ */
+public class HeadlessSimulation {
+
+    public static void main(String[] args) {
+        String size = args.length > 0 ? args[0] : "8";
+        int separator = size.toLowerCase().indexOf('x');
+        int rows = Integer.parseInt(separator < 0 ? size : size.substring(0, separator));
+        int cols = separator < 0 ? rows : Integer.parseInt(size.substring(separator + 1));
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 365;
+        int spacing = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        SimulationRandom random = args.length > 3 ? new SimulationRandom(Long.parseLong(args[3])) : SimulationRandom.unseeded();
+
+        // Plant-level INFO messages would dominate the run
+        Logger.setConsoleLogging(false);
+        Logger.setMinimumLevel(Logger.LogLevel.WARNING);
+        Logger.enableAsync(200, 65536, Logger.OverflowPolicy.COUNT);
+
+        GardenEngine engine = new GardenEngine(rows, cols, Runnable::run, new GardenListener() {
+            @Override
+            public boolean isLogging(Logger.LogLevel level) {
+                return false; // Routine messages are dropped anyway
+            }
+        }, random);
+        engine.getMetrics().registerMBeans("headless");
+        PlantType[] types = PlantType.values();
+        int planted = 0;
+        for (int row = 0; row < rows; row += spacing) {
+            for (int col = 0; col < cols; col += spacing) {
+                engine.plant(row, col, types[planted++ % types.length]);
+            }
+        }
+
+        long startNanos = System.nanoTime();
+        engine.runDays(days);
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        System.out.println(engine.getState());
+        System.out.println("Simulated " + days + " days of a " + rows + "x" + cols + " garden with " +
+            planted + " plants in " + elapsedMillis + " ms.");
+
+        engine.stop();
+        Logger.shutdown();
+    }
+}
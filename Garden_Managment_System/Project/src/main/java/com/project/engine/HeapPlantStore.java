@@ -0,0 +1,110 @@
+package com.project.engine;
+
+import com.project.factory.PlantFactory;
+import com.project.factory.PlantSpec;
+import com.project.modules.Apple;
+import com.project.modules.Bamboo;
+import com.project.modules.Cherry;
+import com.project.modules.Lavender;
+import com.project.modules.Plant;
+import com.project.modules.Sunflower;
+
+/**
+ * The default plant store: one {@link Plant} object per planted cell in a {@link ChunkedCellStore},
+ * and the infestations in a second one that only has chunks where insects are.
+ */
+final class HeapPlantStore extends ChunkedCellStore<Plant> implements PlantStore {
+
+    private final ChunkedCellStore<Integer> infestations;
+
+    HeapPlantStore(int rows, int cols) {
+        super(rows, cols);
+        this.infestations = new ChunkedCellStore<>(rows, cols);
+    }
+
+    @Override
+    public Plant put(int row, int col, Plant plant) {
+        Plant previous = super.put(row, col, plant);
+        infestations.remove(row, col);
+        return previous;
+    }
+
+    @Override
+    public Plant remove(int row, int col) {
+        infestations.remove(row, col);
+        return super.remove(row, col);
+    }
+
+    @Override
+    public Plant peek(int row, int col) {
+        return get(row, col);
+    }
+
+    @Override
+    public boolean holds(int row, int col, Plant plant) {
+        return get(row, col) == plant;
+    }
+
+    @Override
+    public PlantSpec specAt(int row, int col) {
+        Plant plant = get(row, col);
+        if (plant == null) {
+            throw new IllegalArgumentException("Cell (" + row + ", " + col + ") is empty");
+        }
+        return specOf(plant);
+    }
+
+    /**
+     * Returns the spec a heap plant was created from.
+     *
+     * @param plant A plant created by {@link PlantFactory}.
+     * @return The spec; the shared {@link PlantSpec#defaults defaults} if the plant has the default parameters.
+     * @throws IllegalArgumentException if the plant is not one of the factory's classes, e.g. a view of an off-heap store.
+     */
+    static PlantSpec specOf(Plant plant) {
+        PlantSpec spec;
+        if (plant instanceof Apple apple) {
+            spec = PlantSpec.apple(apple.getFruitYield());
+        } else if (plant instanceof Cherry cherry) {
+            spec = PlantSpec.cherry(cherry.getFruitYield());
+        } else if (plant instanceof Lavender lavender) {
+            spec = PlantSpec.lavender(lavender.getFragrance());
+        } else if (plant instanceof Bamboo bamboo) {
+            spec = PlantSpec.bamboo(bamboo.getGrowthRate());
+        } else if (plant instanceof Sunflower sunflower) {
+            spec = PlantSpec.sunflower(sunflower.getHeliotropic());
+        } else {
+            throw new IllegalArgumentException(plant.getName() + " (" + plant.getClass().getName() + ") was not created by PlantFactory");
+        }
+        PlantSpec defaults = PlantSpec.defaults(plant.getPlantType());
+        return spec.equals(defaults) ? defaults : spec;
+    }
+
+    @Override
+    public int getInfestation(int row, int col) {
+        Integer infestation = infestations.get(row, col);
+        return infestation == null ? 0 : infestation;
+    }
+
+    @Override
+    public void setInfestation(int row, int col, int infestation) {
+        if (!contains(row, col)) {
+            throw new IllegalArgumentException("Cell (" + row + ", " + col + ") is empty");
+        }
+        if (infestation == 0) {
+            infestations.remove(row, col);
+        } else {
+            infestations.put(row, col, infestation);
+        }
+    }
+
+    @Override
+    public int getInfestedCount() {
+        return infestations.size();
+    }
+
+    @Override
+    public void forEachInfested(InfestationVisitor visitor) {
+        infestations.forEach(visitor::visit);
+    }
+}
@@ -0,0 +1,119 @@
+package com.project.engine;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of durations in nanoseconds. Values below 16 ns have a bucket each; above
+ * that, every power of two is split into {@value #SUB_BUCKETS} buckets, so percentiles are exact to
+ * within 12.5% from nanoseconds to centuries in under 500 counters. The maximum is exact.
+ *
+ * <p>Recording is a few arithmetic operations and allocation-free. Thread-safe: the simulation
+ * records while management clients read.</p>
+ */
+public class LatencyHistogram implements LatencyHistogramMXBean {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_BUCKETS = 2 * SUB_BUCKETS; // Values below this are counted exactly
+    private static final int LINEAR_BITS = 4; // log2(LINEAR_BUCKETS)
+
+    private final long[] counts = new long[LINEAR_BUCKETS + (63 - LINEAR_BITS) * SUB_BUCKETS];
+    private long count = 0;
+    private long sum = 0;
+    private long max = 0;
+
+    /**
+     * Records the time elapsed since the given start.
+     *
+     * @param startNanos A {@link System#nanoTime()} value.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @param nanos A duration in nanoseconds; negative values count as 0.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[bucketOf(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    private static int bucketOf(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value); // At least LINEAR_BITS
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return LINEAR_BUCKETS + (magnitude - LINEAR_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestValueOf(int bucket) {
+        if (bucket < LINEAR_BUCKETS) {
+            return bucket;
+        }
+        int magnitude = (bucket - LINEAR_BUCKETS) / SUB_BUCKETS + LINEAR_BITS;
+        int subBucket = (bucket - LINEAR_BUCKETS) % SUB_BUCKETS;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * @param percentile The percentile, between 0 and 100.
+     * @return The duration in nanoseconds that the given percentage of the recorded durations does
+     * not exceed (rounded up to its bucket), or 0 if nothing was recorded.
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized long getMaxNanos() {
+        return max;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return getPercentileNanos(50) / 1e6;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return getPercentileNanos(99) / 1e6;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return getMaxNanos() / 1e6;
+    }
+
+    @Override
+    public synchronized double getMeanMillis() {
+        return count > 0 ? sum / 1e6 / count : 0;
+    }
+
+    @Override
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+}
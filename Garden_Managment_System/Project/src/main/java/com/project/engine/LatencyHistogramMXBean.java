@@ -0,0 +1,22 @@
+package com.project.engine;
+
+/**
+ * Management interface of a {@link LatencyHistogram}.
+ */
+public interface LatencyHistogramMXBean {
+
+    long getCount();
+
+    double getP50Millis();
+
+    double getP99Millis();
+
+    double getMaxMillis();
+
+    double getMeanMillis();
+
+    /**
+     * Forgets every recorded latency.
+     */
+    void reset();
+}
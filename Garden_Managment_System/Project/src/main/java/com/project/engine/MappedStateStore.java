@@ -0,0 +1,318 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.logger.Logger;
+import com.project.modules.Plant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Crash-safe state of every cell in a fixed-layout, memory-mapped file. The engine writes the
+ * cells it changed at the end of every command and tick straight into the page cache, so the file
+ * survives a kill of the process, and a restart restores the garden from it without parsing a save
+ * file or replaying a journal. {@link #force()} also makes it survive a power loss.
+ *
+ * <p>Layout (little-endian):</p>
+ * <pre>
+ * header, {@value #HEADER_SIZE} bytes:
+ *   int magic "GMAP", int format version, int rows, int cols, int state (1 once written),
+ *   int temperature, long simulated time,
+ *   int plants planted, died, removed, water added, pest controls applied
+ * spec table, {@value #SPEC_TABLE_SIZE} bytes:
+ *   int spec count, then per spec: short length, the spec as encoded by {@link PlantSpecCodec}
+ * cells, {@value #CELL_SIZE} bytes each, indexed by row * cols + col:
+ *   byte plant type + 1 (0 if empty), byte health, byte water level,
+ *   byte flags (bits 0-3 infestation, bit 4 recovering), short spec index, short unused,
+ *   long simulated time planted, long simulated time of the last change
+ * </pre>
+ *
+ * <p>Every field is written with a single store, so a cell cut short by a crash still holds a
+ * valid, if partly older, state. Like the engine, the store must only be used on the simulation
+ * executor.</p>
+ */
+public final class MappedStateStore implements Closeable {
+
+    private static final int MAGIC = 0x474d4150; // "GMAP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int STATE_WRITTEN = 1;
+
+    private static final int HEADER_SIZE = 4096;
+    private static final int SPEC_TABLE_SIZE = 1 << 16;
+    private static final long CELLS_OFFSET = HEADER_SIZE + SPEC_TABLE_SIZE;
+    private static final int CELL_SIZE = 24;
+
+    // Header fields
+    private static final long VERSION = 4;
+    private static final long ROWS = 8;
+    private static final long COLS = 12;
+    private static final long STATE = 16;
+    private static final long TEMPERATURE = 20;
+    private static final long SIMULATED_TIME = 24;
+    private static final long TOTALS = 32; // Five ints
+    private static final long SPEC_COUNT = HEADER_SIZE;
+
+    // Cell fields
+    private static final long TYPE = 0;
+    private static final long HEALTH = 1;
+    private static final long WATER_LEVEL = 2;
+    private static final long FLAGS = 3;
+    private static final long SPEC_INDEX = 4;
+    private static final long PLANTED_AT = 8;
+    private static final long UPDATED_AT = 16;
+
+    private static final int RECOVERING_FLAG = 0x10;
+    private static final int INFESTATION_MASK = 0x0f;
+
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    // Spec table entries have any length, so their length fields are not aligned
+    private static final ValueLayout.OfShort UNALIGNED_SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Path file;
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final long cellCount;
+
+    // The spec table, mirrored on the heap
+    private final Map<PlantSpec, Integer> specIndices = new HashMap<>();
+    private final List<PlantSpec> specs = new ArrayList<>();
+    private long specTableEnd = SPEC_COUNT + Integer.BYTES;
+    private boolean specTableFull = false;
+
+    // Cells changed since the last sync; the marks keep each cell in the list once
+    private final BitSet dirtyCellMarks = new BitSet();
+    private int[] dirtyCells = new int[64];
+    private int dirtyCellCount = 0;
+
+    private MappedStateStore(Path file, Arena arena, MemorySegment segment, long cellCount) {
+        this.file = file;
+        this.arena = arena;
+        this.segment = segment;
+        this.cellCount = cellCount;
+    }
+
+    /**
+     * Maps a state store, creating it if needed. An existing store must belong to a garden of the
+     * same dimensions.
+     *
+     * @throws IOException if the file cannot be mapped or belongs to another garden.
+     */
+    public static MappedStateStore open(Path file, int rows, int cols) throws IOException {
+        long cellCount = (long) rows * cols;
+        long size = CELLS_OFFSET + cellCount * CELL_SIZE;
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            boolean created = channel.size() == 0;
+            if (!created && channel.size() != size) {
+                throw new IOException(file + " is not the state store of a " + rows + "x" + cols + " garden");
+            }
+            // Mapping past the end grows a new file; empty cells stay sparse. The mapping outlives the channel.
+            MappedStateStore store = new MappedStateStore(file, arena, channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena), cellCount);
+            if (created) {
+                store.segment.set(INT, 0, MAGIC);
+                store.segment.set(INT, VERSION, FORMAT_VERSION);
+                store.segment.set(INT, ROWS, rows);
+                store.segment.set(INT, COLS, cols);
+            } else {
+                store.readHeader(rows, cols);
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    private void readHeader(int rows, int cols) throws IOException {
+        if (segment.get(INT, 0) != MAGIC) {
+            throw new IOException(file + " is not a garden state store");
+        }
+        int version = segment.get(INT, VERSION);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported garden state store format version " + version);
+        }
+        if (segment.get(INT, ROWS) != rows || segment.get(INT, COLS) != cols) {
+            throw new IOException("The state store " + file + " is for a " + segment.get(INT, ROWS) + "x" +
+                segment.get(INT, COLS) + " garden, not " + rows + "x" + cols);
+        }
+
+        // A spec is only counted once it is completely written
+        int count = segment.get(INT, SPEC_COUNT);
+        for (int i = 0; i < count; i++) {
+            int length = Short.toUnsignedInt(segment.get(UNALIGNED_SHORT, specTableEnd));
+            PlantSpec spec = PlantSpecCodec.read(segment.asSlice(specTableEnd + Short.BYTES, length).asByteBuffer());
+            specIndices.put(spec, specs.size());
+            specs.add(spec);
+            specTableEnd += Short.BYTES + length;
+        }
+    }
+
+    /**
+     * @return True if the store holds a garden to restore.
+     */
+    public boolean hasState() {
+        return segment.get(INT, STATE) == STATE_WRITTEN;
+    }
+
+    /**
+     * Restores the stored garden into a new engine, before it is started. Must be called on the
+     * simulation thread.
+     *
+     * @return The number of restored plants.
+     * @throws IOException           if the store holds no garden or a damaged cell.
+     * @throws IllegalStateException if the engine already has plants or has run.
+     */
+    public int restore(GardenEngine engine) throws IOException {
+        if (!hasState()) {
+            throw new IOException(file + " holds no garden");
+        }
+        if (engine.getRows() * (long) engine.getCols() != cellCount) {
+            throw new IOException("The state store does not fit a " + engine.getRows() + "x" + engine.getCols() + " garden");
+        }
+        PlantType[] types = PlantType.values();
+        engine.beginRestore(segment.get(LONG, SIMULATED_TIME), segment.get(INT, TEMPERATURE));
+        int restored = 0;
+        for (int cell = 0; cell < cellCount; cell++) {
+            long offset = CELLS_OFFSET + (long) cell * CELL_SIZE;
+            int type = Byte.toUnsignedInt(segment.get(ValueLayout.JAVA_BYTE, offset + TYPE));
+            if (type == 0) continue;
+            if (type > types.length) {
+                throw new IOException("Damaged cell " + cell + " in " + file);
+            }
+            int specIndex = Short.toUnsignedInt(segment.get(SHORT, offset + SPEC_INDEX));
+            PlantSpec spec = specIndex < specs.size() ? specs.get(specIndex) : PlantSpec.defaults(types[type - 1]);
+            int flags = segment.get(ValueLayout.JAVA_BYTE, offset + FLAGS);
+            engine.restorePlant(cell, spec, segment.get(ValueLayout.JAVA_BYTE, offset + HEALTH),
+                segment.get(ValueLayout.JAVA_BYTE, offset + WATER_LEVEL), flags & INFESTATION_MASK, (flags & RECOVERING_FLAG) != 0);
+            restored++;
+        }
+        engine.finishRestore(segment.get(INT, TOTALS), segment.get(INT, TOTALS + 4), segment.get(INT, TOTALS + 8),
+            segment.get(INT, TOTALS + 12), segment.get(INT, TOTALS + 16));
+        return restored;
+    }
+
+    /**
+     * Records that a cell changed; it is written by the next {@link #sync}.
+     */
+    void markDirty(int cell) {
+        if (dirtyCellMarks.get(cell)) return;
+        dirtyCellMarks.set(cell);
+        if (dirtyCellCount == dirtyCells.length) {
+            dirtyCells = Arrays.copyOf(dirtyCells, dirtyCellCount * 2);
+        }
+        dirtyCells[dirtyCellCount++] = cell;
+    }
+
+    /**
+     * Marks every cell the store holds a plant in, so the next {@link #sync} clears the ones that
+     * are empty in the engine. Empty cells are only read, so the pages of a sparse file stay
+     * unallocated.
+     */
+    void markOccupiedDirty() {
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (segment.get(ValueLayout.JAVA_BYTE, CELLS_OFFSET + (long) cell * CELL_SIZE + TYPE) != 0) {
+                markDirty(cell);
+            }
+        }
+    }
+
+    /**
+     * Writes the changed cells and the garden-wide state.
+     *
+     * @param cells Reads the current state of a cell.
+     */
+    void sync(long simulatedTime, int temperature, GardenStatistics statistics, CellReader cells) {
+        for (int i = 0; i < dirtyCellCount; i++) {
+            int cell = dirtyCells[i];
+            long offset = CELLS_OFFSET + (long) cell * CELL_SIZE;
+            Plant plant = cells.plantAt(cell);
+            if (plant == null) {
+                segment.set(ValueLayout.JAVA_BYTE, offset + TYPE, (byte) 0);
+            } else {
+                int flags = (cells.infestationAt(cell) & INFESTATION_MASK) | (cells.isRecovering(cell) ? RECOVERING_FLAG : 0);
+                // Every command syncs, so a cell is never removed and replanted between two syncs
+                if (segment.get(ValueLayout.JAVA_BYTE, offset + TYPE) == 0) {
+                    segment.set(SHORT, offset + SPEC_INDEX, (short) specIndex(cells.specAt(cell)));
+                    segment.set(LONG, offset + PLANTED_AT, simulatedTime);
+                }
+                segment.set(ValueLayout.JAVA_BYTE, offset + HEALTH, (byte) plant.getHealth());
+                segment.set(ValueLayout.JAVA_BYTE, offset + WATER_LEVEL, (byte) plant.getCurrentWaterLevel());
+                segment.set(ValueLayout.JAVA_BYTE, offset + FLAGS, (byte) flags);
+                segment.set(ValueLayout.JAVA_BYTE, offset + TYPE, (byte) (plant.getPlantType().ordinal() + 1));
+            }
+            segment.set(LONG, offset + UPDATED_AT, simulatedTime);
+        }
+        dirtyCellMarks.clear();
+        dirtyCellCount = 0;
+
+        segment.set(LONG, SIMULATED_TIME, simulatedTime);
+        segment.set(INT, TEMPERATURE, temperature);
+        segment.set(INT, TOTALS, statistics.getTotalPlantsPlanted());
+        segment.set(INT, TOTALS + 4, statistics.getTotalPlantsDied());
+        segment.set(INT, TOTALS + 8, statistics.getTotalPlantsRemoved());
+        segment.set(INT, TOTALS + 12, statistics.getTotalWaterAdded());
+        segment.set(INT, TOTALS + 16, statistics.getTotalPestControlsApplied());
+        segment.set(INT, STATE, STATE_WRITTEN);
+    }
+
+    /**
+     * @return The index of the spec in the table, adding it if needed; the table falls back to the
+     * type's defaults once it is full.
+     */
+    private int specIndex(PlantSpec spec) {
+        Integer index = specIndices.get(spec);
+        if (index != null) return index;
+        try {
+            int size = PlantSpecCodec.encodedSize(spec);
+            if (specTableEnd + Short.BYTES + size > HEADER_SIZE + SPEC_TABLE_SIZE || specs.size() == 0xffff) {
+                throw new IOException("The plant parameter table of " + file + " is full");
+            }
+            segment.set(UNALIGNED_SHORT, specTableEnd, (short) size);
+            PlantSpecCodec.write(segment.asSlice(specTableEnd + Short.BYTES, size).asByteBuffer(), spec);
+            specTableEnd += Short.BYTES + size;
+            specIndices.put(spec, specs.size());
+            specs.add(spec);
+            // Counted last, so a crash never exposes a half-written spec
+            segment.set(INT, SPEC_COUNT, specs.size());
+            return specs.size() - 1;
+        } catch (IOException e) {
+            if (!specTableFull) {
+                specTableFull = true;
+                Logger.log(Logger.LogLevel.WARNING, e.getMessage() + "; further plants are stored with default parameters");
+            }
+            return 0xffff;
+        }
+    }
+
+    /**
+     * Writes the mapped pages to the storage device, so the state also survives a power loss.
+     */
+    public void force() {
+        segment.force();
+    }
+
+    /**
+     * Forces the state to the storage device and unmaps the file.
+     */
+    @Override
+    public void close() {
+        force();
+        arena.close();
+    }
+}
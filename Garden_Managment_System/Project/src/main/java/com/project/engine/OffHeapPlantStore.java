@@ -0,0 +1,640 @@
+package com.project.engine;
+
+import com.project.factory.PlantFactory;
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.modules.Apple;
+import com.project.modules.Bush;
+import com.project.modules.Cherry;
+import com.project.modules.Plant;
+import com.project.modules.SpeciesProfile;
+import com.project.modules.Tree;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plant store that keeps the state of every plant in native memory instead of one {@link Plant}
+ * object per cell. The grid is split into the chunks of {@link ChunkedCellStore}; each chunk is a
+ * {@link MemorySegment} from the store's single shared {@link Arena}, taken when its first cell is
+ * planted and put on a free list when its last plant goes, for the next chunk to reuse. Native
+ * memory is only returned by {@link #close()}. The heap only holds the chunk directory and the
+ * distinct specs, so heap use and garbage collection work do not grow with the number of plants.
+ * Infestations are kept in the cells too.
+ *
+ * <p>Layout of a cell, {@value #CELL_SIZE} bytes in native byte order:</p>
+ * <pre>
+ *   byte plant type + 1 (0 if empty), byte health, byte water level, byte alive (0 or 1),
+ *   short spec index, short infestation ({@link com.project.modules.InsectType} bitmask),
+ *   int generation (changes whenever the cell is planted),
+ *   int growth (height of a tree in cm, density of a bush), int fruit yield (apples and cherries)
+ * </pre>
+ *
+ * <p>{@link #get} returns a new flyweight {@link Plant} that reads and writes the cell directly.
+ * {@link #peek} and the visitors of {@link #forEachInChunks} get a cursor that is moved from cell
+ * to cell instead, so walking the grid allocates nothing per plant. A flyweight whose plant has
+ * been removed or replaced reads as a dead plant and ignores changes; the one returned by
+ * {@link #remove}, and the peek cursor if it was on the cell, keep the plant's last state. Names
+ * are not stored: plants are named like the engine names them, {@code "<TYPE> <row * cols + col>"}.
+ * The species behaviour of a view ({@link Plant#grow}, {@link Plant#dailyCheck}) runs on a heap
+ * copy of the plant whose state, growth included, is written back to the cell.</p>
+ */
+final class OffHeapPlantStore implements PlantStore {
+
+    private static final int CHUNK_SHIFT = 6; // log2(ChunkedCellStore.CHUNK_SIZE)
+    private static final int CHUNK_MASK = ChunkedCellStore.CHUNK_SIZE - 1;
+    private static final int CHUNK_CELLS = ChunkedCellStore.CHUNK_SIZE * ChunkedCellStore.CHUNK_SIZE;
+
+    private static final int CELL_SIZE = 20;
+    private static final long TYPE = 0;
+    private static final long HEALTH = 1;
+    private static final long WATER_LEVEL = 2;
+    private static final long ALIVE = 3;
+    private static final long SPEC_INDEX = 4;
+    private static final long INFESTATION = 6;
+    private static final long GENERATION = 8;
+    private static final long GROWTH = 12;
+    private static final long FRUIT_YIELD = 16;
+
+    private static final PlantType[] TYPES = PlantType.values();
+
+    private final int rows;
+    private final int cols;
+    private final int chunkCols;
+    private final Chunk[] chunks;
+    // Shared, because the parallel water reduction reads the plants from the tick pool
+    private final Arena arena = Arena.ofShared();
+    private final ArrayDeque<MemorySegment> freeSegments = new ArrayDeque<>(); // Of emptied chunks
+    private int size = 0;
+    private int infestedCount = 0;
+    private int allocatedChunks = 0;
+    private int nextGeneration = 1;
+
+    // The distinct specs of the planted cells; cells hold an index
+    private final Map<PlantSpec, Integer> specIndices = new HashMap<>();
+    private final List<PlantSpec> specs = new ArrayList<>();
+
+    // The view returned by peek, created on first use
+    private PlantView cursor;
+
+    private static final class Chunk {
+        final MemorySegment cells;
+        int size = 0;
+        int infested = 0; // Cells with a non-zero infestation
+        boolean released = false; // The segment went back to the free list; views of the chunk are dead
+
+        Chunk(MemorySegment cells) {
+            this.cells = cells;
+        }
+    }
+
+    /**
+     * @param rows The number of rows of the grid.
+     * @param cols The number of columns of the grid.
+     * @throws IllegalArgumentException if a dimension is not positive or the grid has more than
+     *                                  {@code Integer.MAX_VALUE} cells.
+     */
+    OffHeapPlantStore(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive: " + rows + "x" + cols);
+        }
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Grid too large: " + rows + "x" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.chunkCols = (cols + CHUNK_MASK) >>> CHUNK_SHIFT;
+        int chunkRows = (rows + CHUNK_MASK) >>> CHUNK_SHIFT;
+        this.chunks = new Chunk[chunkRows * chunkCols];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Plant get(int row, int col) {
+        checkBounds(row, col);
+        Chunk chunk = chunks[chunkIndex(row, col)];
+        return chunk == null ? null : view(new PlantView(), chunk, row, col, offset(row, col));
+    }
+
+    @Override
+    public Plant peek(int row, int col) {
+        checkBounds(row, col);
+        Chunk chunk = chunks[chunkIndex(row, col)];
+        if (chunk == null) return null;
+        if (cursor == null) {
+            cursor = new PlantView();
+        }
+        return view(cursor, chunk, row, col, offset(row, col));
+    }
+
+    @Override
+    public boolean contains(int row, int col) {
+        checkBounds(row, col);
+        Chunk chunk = chunks[chunkIndex(row, col)];
+        return chunk != null && chunk.cells.get(ValueLayout.JAVA_BYTE, offset(row, col) + TYPE) != 0;
+    }
+
+    @Override
+    public Plant put(int row, int col, Plant plant) {
+        if (plant == null) {
+            throw new IllegalArgumentException("Cell value must not be null");
+        }
+        checkBounds(row, col);
+        PlantSpec spec = plant instanceof PlantView view ? view.getSpec() : HeapPlantStore.specOf(plant);
+        int specIndex = specIndex(spec);
+        int chunkIndex = chunkIndex(row, col);
+        Chunk chunk = chunks[chunkIndex];
+        if (chunk == null) {
+            chunk = new Chunk(takeSegment());
+            chunks[chunkIndex] = chunk;
+            allocatedChunks++;
+        }
+        long offset = offset(row, col);
+        PlantView previous = view(new PlantView(), chunk, row, col, offset);
+        if (previous != null) {
+            detachCursor(chunk, offset);
+            previous.detach();
+            clearInfestation(chunk, offset);
+        } else {
+            chunk.size++;
+            size++;
+        }
+
+        MemorySegment cells = chunk.cells;
+        cells.set(ValueLayout.JAVA_BYTE, offset + TYPE, (byte) (plant.getPlantType().ordinal() + 1));
+        cells.set(ValueLayout.JAVA_BYTE, offset + HEALTH, (byte) plant.getHealth());
+        cells.set(ValueLayout.JAVA_BYTE, offset + WATER_LEVEL, (byte) plant.getCurrentWaterLevel());
+        cells.set(ValueLayout.JAVA_BYTE, offset + ALIVE, (byte) (plant.isAlive() ? 1 : 0));
+        cells.set(ValueLayout.JAVA_SHORT, offset + SPEC_INDEX, (short) specIndex);
+        cells.set(ValueLayout.JAVA_SHORT, offset + INFESTATION, (short) 0);
+        cells.set(ValueLayout.JAVA_INT, offset + GENERATION, nextGeneration());
+        cells.set(ValueLayout.JAVA_INT, offset + GROWTH, growthOf(plant));
+        cells.set(ValueLayout.JAVA_INT, offset + FRUIT_YIELD, fruitYieldOf(plant));
+        return previous;
+    }
+
+    @Override
+    public Plant remove(int row, int col) {
+        checkBounds(row, col);
+        int chunkIndex = chunkIndex(row, col);
+        Chunk chunk = chunks[chunkIndex];
+        if (chunk == null) return null;
+
+        long offset = offset(row, col);
+        PlantView previous = view(new PlantView(), chunk, row, col, offset);
+        if (previous != null) {
+            detachCursor(chunk, offset);
+            previous.detach();
+            clearInfestation(chunk, offset);
+            chunk.cells.set(ValueLayout.JAVA_BYTE, offset + TYPE, (byte) 0);
+            chunk.cells.set(ValueLayout.JAVA_INT, offset + GENERATION, 0);
+            size--;
+            if (--chunk.size == 0) {
+                chunks[chunkIndex] = null;
+                allocatedChunks--;
+                chunk.released = true;
+                // Every cell of the segment is marked empty now, as a new chunk expects
+                freeSegments.push(chunk.cells);
+            }
+        }
+        return previous;
+    }
+
+    @Override
+    public boolean holds(int row, int col, Plant plant) {
+        return plant instanceof PlantView view && view.store() == this && view.row == row && view.col == col && view.attached();
+    }
+
+    @Override
+    public PlantSpec specAt(int row, int col) {
+        checkBounds(row, col);
+        Chunk chunk = chunks[chunkIndex(row, col)];
+        long offset = offset(row, col);
+        if (chunk == null || chunk.cells.get(ValueLayout.JAVA_BYTE, offset + TYPE) == 0) {
+            throw new IllegalArgumentException("Cell (" + row + ", " + col + ") is empty");
+        }
+        return spec(chunk, offset);
+    }
+
+    @Override
+    public int getInfestation(int row, int col) {
+        checkBounds(row, col);
+        Chunk chunk = chunks[chunkIndex(row, col)];
+        long offset = offset(row, col);
+        if (chunk == null || chunk.cells.get(ValueLayout.JAVA_BYTE, offset + TYPE) == 0) return 0;
+        return chunk.cells.get(ValueLayout.JAVA_SHORT, offset + INFESTATION);
+    }
+
+    @Override
+    public void setInfestation(int row, int col, int infestation) {
+        checkBounds(row, col);
+        Chunk chunk = chunks[chunkIndex(row, col)];
+        long offset = offset(row, col);
+        if (chunk == null || chunk.cells.get(ValueLayout.JAVA_BYTE, offset + TYPE) == 0) {
+            throw new IllegalArgumentException("Cell (" + row + ", " + col + ") is empty");
+        }
+        clearInfestation(chunk, offset);
+        if (infestation != 0) {
+            chunk.cells.set(ValueLayout.JAVA_SHORT, offset + INFESTATION, (short) infestation);
+            chunk.infested++;
+            infestedCount++;
+        }
+    }
+
+    @Override
+    public int getInfestedCount() {
+        return infestedCount;
+    }
+
+    @Override
+    public void forEachInfested(InfestationVisitor visitor) {
+        for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+            Chunk chunk = chunks[chunkIndex];
+            if (chunk == null || chunk.infested == 0) continue;
+
+            int firstRow = (chunkIndex / chunkCols) << CHUNK_SHIFT;
+            int firstCol = (chunkIndex % chunkCols) << CHUNK_SHIFT;
+            int remaining = chunk.infested;
+            for (int index = 0; index < CHUNK_CELLS && remaining > 0; index++) {
+                long offset = (long) index * CELL_SIZE;
+                if (chunk.cells.get(ValueLayout.JAVA_BYTE, offset + TYPE) == 0) continue;
+                int infestation = chunk.cells.get(ValueLayout.JAVA_SHORT, offset + INFESTATION);
+                if (infestation == 0) continue;
+                remaining--;
+                visitor.visit(firstRow + (index >>> CHUNK_SHIFT), firstCol + (index & CHUNK_MASK), infestation);
+            }
+        }
+    }
+
+    @Override
+    public void forEach(ChunkedCellStore.CellVisitor<? super Plant> visitor) {
+        forEachInChunks(0, chunks.length, visitor);
+    }
+
+    @Override
+    public void forEachInChunks(int fromChunk, int toChunk, ChunkedCellStore.CellVisitor<? super Plant> visitor) {
+        PlantView view = new PlantView();
+        for (int chunkIndex = fromChunk; chunkIndex < toChunk; chunkIndex++) {
+            Chunk chunk = chunks[chunkIndex];
+            if (chunk == null) continue;
+
+            int firstRow = (chunkIndex / chunkCols) << CHUNK_SHIFT;
+            int firstCol = (chunkIndex % chunkCols) << CHUNK_SHIFT;
+            int remaining = chunk.size;
+            for (int index = 0; index < CHUNK_CELLS && remaining > 0; index++) {
+                long offset = (long) index * CELL_SIZE;
+                if (chunk.cells.get(ValueLayout.JAVA_BYTE, offset + TYPE) == 0) continue;
+                remaining--;
+                int row = firstRow + (index >>> CHUNK_SHIFT);
+                int col = firstCol + (index & CHUNK_MASK);
+                visitor.visit(row, col, view(view, chunk, row, col, offset));
+            }
+        }
+    }
+
+    @Override
+    public int getChunkSlotCount() {
+        return chunks.length;
+    }
+
+    @Override
+    public int getAllocatedChunkCount() {
+        return allocatedChunks;
+    }
+
+    @Override
+    public int getChunkSize(int chunkIndex) {
+        Chunk chunk = chunks[chunkIndex];
+        return chunk == null ? 0 : chunk.size;
+    }
+
+    /**
+     * Frees the native memory of every chunk. Views read afterwards as dead plants.
+     */
+    @Override
+    public void close() {
+        if (!arena.scope().isAlive()) return;
+        for (int chunkIndex = 0; chunkIndex < chunks.length; chunkIndex++) {
+            Chunk chunk = chunks[chunkIndex];
+            if (chunk == null) continue;
+            chunks[chunkIndex] = null;
+            chunk.released = true;
+        }
+        freeSegments.clear();
+        arena.close();
+        size = 0;
+        infestedCount = 0;
+        allocatedChunks = 0;
+    }
+
+    /**
+     * @return A segment for a new chunk with every cell empty: a recycled one if there is one.
+     */
+    private MemorySegment takeSegment() {
+        MemorySegment segment = freeSegments.poll();
+        return segment != null ? segment : arena.allocate((long) CHUNK_CELLS * CELL_SIZE, Long.BYTES);
+    }
+
+    /**
+     * Moves a view to a cell.
+     *
+     * @return The view, or {@code null} if the cell is empty.
+     */
+    private PlantView view(PlantView view, Chunk chunk, int row, int col, long offset) {
+        int type = chunk.cells.get(ValueLayout.JAVA_BYTE, offset + TYPE);
+        if (type == 0) return null;
+        return view.moveTo(chunk, offset, row, col, TYPES[type - 1], chunk.cells.get(ValueLayout.JAVA_INT, offset + GENERATION));
+    }
+
+    /**
+     * Lets a holder of the peek cursor still read the plant of a cell that is about to be cleared
+     * or replanted, as it could a plant object.
+     */
+    private void detachCursor(Chunk chunk, long offset) {
+        if (cursor != null && cursor.chunk == chunk && cursor.offset == offset && cursor.attached()) {
+            cursor.detach();
+        }
+    }
+
+    private void clearInfestation(Chunk chunk, long offset) {
+        if (chunk.cells.get(ValueLayout.JAVA_SHORT, offset + INFESTATION) != 0) {
+            chunk.cells.set(ValueLayout.JAVA_SHORT, offset + INFESTATION, (short) 0);
+            chunk.infested--;
+            infestedCount--;
+        }
+    }
+
+    /**
+     * @return The height of a tree or the density of a bush, 0 for other plants.
+     */
+    private static int growthOf(Plant plant) {
+        if (plant instanceof PlantView view) return view.growth();
+        if (plant instanceof Tree tree) return tree.getHeight();
+        if (plant instanceof Bush bush) return bush.getDensity();
+        return 0;
+    }
+
+    /**
+     * @return The fruit yield of an apple or cherry tree, 0 for other plants.
+     */
+    private static int fruitYieldOf(Plant plant) {
+        if (plant instanceof PlantView view) return view.fruitYield();
+        if (plant instanceof Apple apple) return apple.getFruitYield();
+        if (plant instanceof Cherry cherry) return cherry.getFruitYield();
+        return 0;
+    }
+
+    /**
+     * @return The spec of a planted cell as {@link HeapPlantStore#specOf} gives it for a heap plant:
+     * for apples and cherries, with the fruit yield the plant has grown to.
+     */
+    private PlantSpec spec(Chunk chunk, long offset) {
+        PlantSpec spec = specs.get(Short.toUnsignedInt(chunk.cells.get(ValueLayout.JAVA_SHORT, offset + SPEC_INDEX)));
+        PlantType type = spec.getPlantType();
+        if (type != PlantType.APPLE && type != PlantType.CHERRY) return spec;
+        int fruitYield = chunk.cells.get(ValueLayout.JAVA_INT, offset + FRUIT_YIELD);
+        if (fruitYield == spec.getFruitYield()) return spec;
+        PlantSpec grown = type == PlantType.APPLE ? PlantSpec.apple(fruitYield) : PlantSpec.cherry(fruitYield);
+        PlantSpec defaults = PlantSpec.defaults(type);
+        return grown.equals(defaults) ? defaults : grown;
+    }
+
+    private int nextGeneration() {
+        int generation = nextGeneration++;
+        if (nextGeneration == 0) {
+            nextGeneration = 1; // 0 marks an empty cell
+        }
+        return generation;
+    }
+
+    private int specIndex(PlantSpec spec) {
+        Integer index = specIndices.get(spec);
+        if (index != null) return index;
+        if (specs.size() > 0xffff) {
+            throw new IllegalStateException("More than " + 0x10000 + " distinct plant parameter sets");
+        }
+        specIndices.put(spec, specs.size());
+        specs.add(spec);
+        return specs.size() - 1;
+    }
+
+    private int chunkIndex(int row, int col) {
+        return (row >>> CHUNK_SHIFT) * chunkCols + (col >>> CHUNK_SHIFT);
+    }
+
+    private static long offset(int row, int col) {
+        return (long) (((row & CHUNK_MASK) << CHUNK_SHIFT) | (col & CHUNK_MASK)) * CELL_SIZE;
+    }
+
+    private void checkBounds(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Cell (" + row + ", " + col + ") outside " + rows + "x" + cols + " grid");
+        }
+    }
+
+    /**
+     * Flyweight view of one planted cell, moved to it with {@link #moveTo}. The plant's own fields
+     * hold the state of a detached view: dead until {@link #detach()} copies the last state into
+     * them.
+     */
+    private final class PlantView extends Plant {
+        private Chunk chunk;
+        private long offset;
+        private int row;
+        private int col;
+        private PlantType type;
+        private int generation;
+        private boolean detached;
+        private PlantSpec detachedSpec;
+        private int detachedGrowth;
+        private int detachedFruitYield;
+
+        PlantView() {
+            super(SpeciesProfile.of(TYPES[0]), null);
+        }
+
+        PlantView moveTo(Chunk chunk, long offset, int row, int col, PlantType type, int generation) {
+            this.chunk = chunk;
+            this.offset = offset;
+            this.row = row;
+            this.col = col;
+            this.type = type;
+            this.generation = generation;
+            detached = false;
+            detachedSpec = null;
+            super.storeHealth(0);
+            super.storeWaterLevel(0);
+            super.storeAlive(false);
+            return this;
+        }
+
+        OffHeapPlantStore store() {
+            return OffHeapPlantStore.this;
+        }
+
+        /**
+         * @return True while the view's plant is still in its cell.
+         */
+        boolean attached() {
+            return !detached && !chunk.released && chunk.cells.get(ValueLayout.JAVA_INT, offset + GENERATION) == generation;
+        }
+
+        /**
+         * Keeps the plant's last state in the view before its cell is cleared or replanted.
+         */
+        void detach() {
+            detachedSpec = getSpec();
+            detachedGrowth = growth();
+            detachedFruitYield = fruitYield();
+            super.storeHealth(getHealth());
+            super.storeWaterLevel(getCurrentWaterLevel());
+            super.storeAlive(isAlive());
+            detached = true;
+        }
+
+        PlantSpec getSpec() {
+            if (detached) return detachedSpec;
+            if (!attached()) return PlantSpec.defaults(type);
+            return spec(chunk, offset);
+        }
+
+        int growth() {
+            if (detached) return detachedGrowth;
+            return attached() ? chunk.cells.get(ValueLayout.JAVA_INT, offset + GROWTH) : 0;
+        }
+
+        int fruitYield() {
+            if (detached) return detachedFruitYield;
+            return attached() ? chunk.cells.get(ValueLayout.JAVA_INT, offset + FRUIT_YIELD) : 0;
+        }
+
+        private void storeGrowth(int growth, int fruitYield) {
+            if (attached()) {
+                chunk.cells.set(ValueLayout.JAVA_INT, offset + GROWTH, growth);
+                chunk.cells.set(ValueLayout.JAVA_INT, offset + FRUIT_YIELD, fruitYield);
+            } else if (detached) {
+                detachedGrowth = growth;
+                detachedFruitYield = fruitYield;
+            }
+        }
+
+        @Override
+        public SpeciesProfile getProfile() {
+            return SpeciesProfile.of(type);
+        }
+
+        @Override
+        public String getName() {
+            return type.name() + " " + (row * cols + col);
+        }
+
+        @Override
+        public int getHealth() {
+            return attached() ? chunk.cells.get(ValueLayout.JAVA_BYTE, offset + HEALTH) : super.getHealth();
+        }
+
+        @Override
+        public int getCurrentWaterLevel() {
+            return attached() ? chunk.cells.get(ValueLayout.JAVA_BYTE, offset + WATER_LEVEL) : super.getCurrentWaterLevel();
+        }
+
+        @Override
+        public boolean isAlive() {
+            return attached() ? chunk.cells.get(ValueLayout.JAVA_BYTE, offset + ALIVE) != 0 : super.isAlive();
+        }
+
+        @Override
+        protected void storeHealth(int health) {
+            if (attached()) {
+                chunk.cells.set(ValueLayout.JAVA_BYTE, offset + HEALTH, (byte) health);
+            } else if (detached) {
+                super.storeHealth(health);
+            }
+        }
+
+        @Override
+        protected void storeWaterLevel(int waterLevel) {
+            if (attached()) {
+                chunk.cells.set(ValueLayout.JAVA_BYTE, offset + WATER_LEVEL, (byte) waterLevel);
+            } else if (detached) {
+                super.storeWaterLevel(waterLevel);
+            }
+        }
+
+        @Override
+        protected void storeAlive(boolean alive) {
+            if (attached()) {
+                chunk.cells.set(ValueLayout.JAVA_BYTE, offset + ALIVE, (byte) (alive ? 1 : 0));
+            } else if (detached) {
+                super.storeAlive(alive);
+            }
+        }
+
+        /**
+         * Grows a heap copy and writes its state, including the new height, density or fruit
+         * yield, back.
+         */
+        @Override
+        public void grow() {
+            Plant plant = toPlant();
+            plant.grow();
+            writeBack(plant);
+        }
+
+        /**
+         * Runs the species check on a heap copy and writes its state back.
+         */
+        @Override
+        public void dailyCheck() {
+            Plant plant = toPlant();
+            plant.dailyCheck();
+            writeBack(plant);
+        }
+
+        @Override
+        public void displaySpecialCareInstructions() {
+            toPlant().displaySpecialCareInstructions();
+        }
+
+        private void writeBack(Plant plant) {
+            storeHealth(plant.getHealth());
+            storeWaterLevel(plant.getCurrentWaterLevel());
+            storeAlive(plant.isAlive());
+            storeGrowth(growthOf(plant), fruitYieldOf(plant));
+        }
+
+        private Plant toPlant() {
+            // Cherries add to their fruit yield as they grow, so the yield comes from the cell
+            PlantSpec spec = switch (type) {
+                case APPLE -> PlantSpec.apple(fruitYield());
+                case CHERRY -> PlantSpec.cherry(fruitYield());
+                default -> getSpec();
+            };
+            Plant plant = PlantFactory.createPlant(getName(), spec);
+            if (plant instanceof Tree tree) {
+                tree.restoreHeight(growth());
+            } else if (plant instanceof Bush bush) {
+                bush.restoreDensity(growth());
+            }
+            plant.setHealth(getHealth());
+            plant.setCurrentWaterLevel(getCurrentWaterLevel());
+            plant.setAlive(isAlive());
+            return plant;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.modules.InsectType;
+import com.project.modules.SpeciesProfile;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable state of one planted cell at the time a {@link GardenSnapshot} was taken.
+ *
+ * @param row         The row of the cell.
+ * @param col         The column of the cell.
+ * @param name        The name of the plant.
+ * @param species     The shared profile of the plant's species.
+ * @param spec        The per-plant parameters the plant was created with.
+ * @param health      The health of the plant, in %.
+ * @param waterLevel  The water level of the plant, in %.
+ * @param infestation The {@link InsectType} bitmask of the insects infesting the cell.
+ * @param recovering  True if the plant is recovering from a pest control treatment.
+ */
+public record PlantSnapshot(int row, int col, String name, SpeciesProfile species, PlantSpec spec, int health, int waterLevel,
+                            int infestation, boolean recovering) {
+
+    public PlantType plantType() {
+        return species.getPlantType();
+    }
+
+    public int waterRequirement() {
+        return species.getWaterRequirement();
+    }
+
+    /**
+     * @return The names of the insects that can damage the plant (unmodifiable).
+     */
+    public List<String> vulnerabilities() {
+        return species.getPestVulnerabilities();
+    }
+
+    /**
+     * @return The names of the insects infesting the cell (unmodifiable).
+     */
+    public List<String> activeInsects() {
+        return Collections.unmodifiableList(InsectType.namesOf(infestation));
+    }
+
+    public boolean isInfestedBy(InsectType insect) {
+        return (infestation & insect.bit()) != 0;
+    }
+}
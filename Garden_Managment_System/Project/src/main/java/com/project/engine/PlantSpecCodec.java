@@ -0,0 +1,112 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary form of a {@link PlantSpec}, shared by the save file and the journal: the plant type as a
+ * byte, then the type's parameter as an int (fruit yield, growth rate) or as a short length and
+ * UTF-8 bytes (fragrance, heliotropism).
+ */
+final class PlantSpecCodec {
+
+    /**
+     * Longest encoded spec, so an encoded spec always fits an unsigned short length prefix.
+     */
+    static final int MAX_ENCODED_SIZE = 0xffff;
+
+    private PlantSpecCodec() {
+    }
+
+    /**
+     * @return The number of bytes {@link #write} puts.
+     * @throws IOException if the spec's text parameter is too long to encode.
+     */
+    static int encodedSize(PlantSpec spec) throws IOException {
+        String text = textOf(spec);
+        if (text == null) return 1 + Integer.BYTES;
+        int size = 1 + Short.BYTES + text.getBytes(StandardCharsets.UTF_8).length;
+        if (size > MAX_ENCODED_SIZE || size - 1 - Short.BYTES > Short.MAX_VALUE) {
+            throw new IOException("Plant parameter too long to encode: " + spec);
+        }
+        return size;
+    }
+
+    /**
+     * Puts the spec; the buffer must have {@link #encodedSize} bytes left.
+     */
+    static void write(ByteBuffer buffer, PlantSpec spec) {
+        PlantType type = spec.getPlantType();
+        buffer.put((byte) type.ordinal());
+        switch (type) {
+            case APPLE:
+            case CHERRY:
+                buffer.putInt(spec.getFruitYield());
+                break;
+            case BAMBOO:
+                buffer.putInt(spec.getGrowthRate());
+                break;
+            case LAVENDER:
+            case SUNFLOWER:
+                byte[] bytes = textOf(spec).getBytes(StandardCharsets.UTF_8);
+                buffer.putShort((short) bytes.length).put(bytes);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported PlantType: " + type);
+        }
+    }
+
+    /**
+     * Gets a spec; the buffer must hold all of it.
+     *
+     * @throws IOException if the bytes are not a valid spec.
+     */
+    static PlantSpec read(ByteBuffer buffer) throws IOException {
+        PlantType type = readType(buffer);
+        switch (type) {
+            case APPLE:
+                return PlantSpec.apple(buffer.getInt());
+            case CHERRY:
+                return PlantSpec.cherry(buffer.getInt());
+            case BAMBOO:
+                return PlantSpec.bamboo(buffer.getInt());
+            case LAVENDER:
+            case SUNFLOWER:
+                byte[] bytes = new byte[buffer.getShort()];
+                buffer.get(bytes);
+                String text = new String(bytes, StandardCharsets.UTF_8);
+                return type == PlantType.LAVENDER ? PlantSpec.lavender(text) : PlantSpec.sunflower(text);
+            default:
+                throw new IOException("Unsupported plant type " + type);
+        }
+    }
+
+    /**
+     * Gets a plant type stored as its ordinal.
+     *
+     * @throws IOException if the byte is not a plant type.
+     */
+    static PlantType readType(ByteBuffer buffer) throws IOException {
+        PlantType[] types = PlantType.values();
+        int ordinal = buffer.get();
+        if (ordinal < 0 || ordinal >= types.length) {
+            throw new IOException("Unknown plant type " + ordinal);
+        }
+        return types[ordinal];
+    }
+
+    private static String textOf(PlantSpec spec) {
+        switch (spec.getPlantType()) {
+            case LAVENDER:
+                return spec.getFragrance();
+            case SUNFLOWER:
+                return spec.getHeliotropic();
+            default:
+                return null;
+        }
+    }
+}
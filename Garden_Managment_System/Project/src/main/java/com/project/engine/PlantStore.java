@@ -0,0 +1,121 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.modules.Plant;
+
+/**
+ * Where an engine keeps the plants of its cells: {@link HeapPlantStore} (one object per plant) or
+ * {@link OffHeapPlantStore} (plain memory per cell, read through flyweight views). Both split the
+ * grid into the same chunks and iterate it in the same order, so the engine behaves identically on
+ * either. Not thread-safe; concurrent reads are fine as long as nobody writes.
+ */
+interface PlantStore {
+
+    int size();
+
+    boolean isEmpty();
+
+    /**
+     * @return The plant of the cell, or {@code null} if it is empty.
+     */
+    Plant get(int row, int col);
+
+    /**
+     * Like {@link #get}, but the plant may be a view the store reuses: it is only valid until the
+     * next {@code peek}, so it must not be kept or passed to code that peeks. For the loops that
+     * touch every plant.
+     *
+     * @return The plant of the cell, or {@code null} if it is empty.
+     */
+    Plant peek(int row, int col);
+
+    boolean contains(int row, int col);
+
+    /**
+     * Plants a cell. The store may keep a copy of the plant's state rather than the plant itself,
+     * so the plant must be read back with {@link #get} before it is changed. Replanting a cell
+     * clears its infestation.
+     *
+     * @return The previous plant, or {@code null} if the cell was empty.
+     */
+    Plant put(int row, int col, Plant plant);
+
+    /**
+     * Clears a cell, and its infestation.
+     *
+     * @return The removed plant, which keeps its last state, or {@code null} if the cell was empty.
+     */
+    Plant remove(int row, int col);
+
+    /**
+     * @return True if the plant is still the one in the cell, i.e. it has not been removed or
+     * replaced since it was read.
+     */
+    boolean holds(int row, int col, Plant plant);
+
+    /**
+     * @return The spec the plant of the cell was created from.
+     * @throws IllegalArgumentException if the cell is empty.
+     */
+    PlantSpec specAt(int row, int col);
+
+    /**
+     * @return The {@link com.project.modules.InsectType} bitmask of the insects infesting the cell,
+     * 0 if none or if the cell is empty.
+     */
+    int getInfestation(int row, int col);
+
+    /**
+     * Sets the infestation of a planted cell.
+     *
+     * @param infestation The {@link com.project.modules.InsectType} bitmask, 0 to clear it.
+     * @throws IllegalArgumentException if the cell is empty.
+     */
+    void setInfestation(int row, int col, int infestation);
+
+    /**
+     * @return The number of infested cells.
+     */
+    int getInfestedCount();
+
+    /**
+     * Visits every infested cell, in the order of {@link #forEach}. The visitor may change or clear
+     * the infestation of the visited cell.
+     */
+    void forEachInfested(InfestationVisitor visitor);
+
+    /**
+     * Receives the infested cells of the store.
+     */
+    @FunctionalInterface
+    interface InfestationVisitor {
+        void visit(int row, int col, int infestation);
+    }
+
+    /**
+     * Visits every planted cell, in the order of {@link ChunkedCellStore#forEach}. As with
+     * {@link #peek}, the visited plant is only valid during its visit.
+     */
+    void forEach(ChunkedCellStore.CellVisitor<? super Plant> visitor);
+
+    /**
+     * Visits the planted cells of the chunks with index {@code [fromChunk, toChunk)}, as
+     * {@link ChunkedCellStore#forEachInChunks}.
+     */
+    void forEachInChunks(int fromChunk, int toChunk, ChunkedCellStore.CellVisitor<? super Plant> visitor);
+
+    int getChunkSlotCount();
+
+    /**
+     * @return The number of chunks currently allocated.
+     */
+    int getAllocatedChunkCount();
+
+    int getChunkSize(int chunkIndex);
+
+    /**
+     * Releases the memory of the store; it must not be used afterwards.
+     */
+    default void close() {
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.engine;
+
+/**
+ * A timestamped event queued in an {@link EventScheduler}. Events with the same timestamp fire in
+ * the order they were scheduled.
+ */
+public final class ScheduledEvent implements Comparable<ScheduledEvent> {
+    final Runnable action;
+    final long period; // 0 for one-shot events
+    long time;         // Scheduler time (ms) at which the event fires next
+    long sequence;     // Tie-breaker assigned on every (re)insertion
+    private volatile boolean cancelled;
+
+    ScheduledEvent(long time, long period, Runnable action) {
+        this.time = time;
+        this.period = period;
+        this.action = action;
+    }
+
+    /**
+     * Prevents the event from firing again. Cancelling an already fired one-shot event has no effect.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isPeriodic() {
+        return period > 0;
+    }
+
+    /**
+     * @return The scheduler time (ms) at which the event fires next.
+     */
+    public long getTime() {
+        return time;
+    }
+
+    @Override
+    public int compareTo(ScheduledEvent other) {
+        int byTime = Long.compare(time, other.time);
+        return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+    }
+}
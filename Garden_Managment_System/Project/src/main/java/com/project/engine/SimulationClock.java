@@ -0,0 +1,98 @@
+package com.project.engine;
+
+/**
+ * Simulated time source for the {@link EventScheduler}. Simulated time advances at {@code speed}
+ * simulated milliseconds per real millisecond; with {@link #AS_FAST_AS_POSSIBLE} it only moves when
+ * the scheduler jumps it to the next event.
+ */
+public class SimulationClock {
+
+    /**
+     * Speed value that runs events back to back without waiting.
+     */
+    public static final double AS_FAST_AS_POSSIBLE = Double.POSITIVE_INFINITY;
+
+    private final long startEpochMillis = System.currentTimeMillis();
+    private double speed;
+    private long simulatedAnchor; // Simulated ms at the last re-anchoring
+    private long realAnchorNanos; // System.nanoTime() at the last re-anchoring
+
+    /**
+     * @param speed Simulated milliseconds per real millisecond, or {@link #AS_FAST_AS_POSSIBLE}.
+     */
+    public SimulationClock(double speed) {
+        checkSpeed(speed);
+        this.speed = speed;
+        this.realAnchorNanos = System.nanoTime();
+    }
+
+    /**
+     * @return Simulated milliseconds since the simulation started.
+     */
+    public synchronized long now() {
+        if (isAsFastAsPossible()) {
+            return simulatedAnchor;
+        }
+        return simulatedAnchor + (long) ((System.nanoTime() - realAnchorNanos) / 1_000_000.0 * speed);
+    }
+
+    /**
+     * @return The simulated wall-clock time in epoch milliseconds, starting from the real time at
+     * which the clock was created.
+     */
+    public long currentTimeMillis() {
+        return startEpochMillis + now();
+    }
+
+    public synchronized double getSpeed() {
+        return speed;
+    }
+
+    public synchronized boolean isAsFastAsPossible() {
+        return speed == AS_FAST_AS_POSSIBLE;
+    }
+
+    /**
+     * Changes the speed multiplier without making simulated time jump.
+     *
+     * @param speed Simulated milliseconds per real millisecond, or {@link #AS_FAST_AS_POSSIBLE}.
+     */
+    public synchronized void setSpeed(double speed) {
+        checkSpeed(speed);
+        reanchor(now());
+        this.speed = speed;
+    }
+
+    /**
+     * Jumps simulated time forward to the given instant. Never moves the clock backwards.
+     *
+     * @param simulatedMillis The target simulated time.
+     */
+    synchronized void advanceTo(long simulatedMillis) {
+        if (simulatedMillis > now()) {
+            reanchor(simulatedMillis);
+        }
+    }
+
+    /**
+     * @param simulatedMillis A simulated duration.
+     * @return The real time in milliseconds it takes at the current speed (at least 1 if positive).
+     */
+    synchronized long toRealMillis(long simulatedMillis) {
+        if (simulatedMillis <= 0 || isAsFastAsPossible()) {
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil(simulatedMillis / speed));
+    }
+
+    private void reanchor(long simulatedMillis) {
+        simulatedAnchor = simulatedMillis;
+        realAnchorNanos = System.nanoTime();
+    }
+
+    private static void checkSpeed(double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("Clock speed must be positive: " + speed);
+        }
+    }
+}
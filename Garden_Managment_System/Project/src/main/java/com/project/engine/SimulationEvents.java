@@ -0,0 +1,139 @@
+package com.project.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events of the simulation, so recordings tell simulation work apart from
+ * JavaFX layout and rendering. Every event is timed from {@code begin()} to {@code commit()}.
+ *
+ * <p>The {@code Project/jfr/garden.jfc} profile enables the garden-wide phases and only the slow
+ * per-plant ticks, which is cheap enough for production; combine it with a JDK profile, e.g.
+ * {@code -XX:StartFlightRecording:settings=default,settings=jfr/garden.jfc} from {@code Project}.</p>
+ */
+final class SimulationEvents {
+
+    private static final String CATEGORY = "Garden Simulation";
+
+    private SimulationEvents() {
+    }
+
+    @Name("com.project.WaterReduction")
+    @Label("Water Reduction")
+    @Description("One water reduction pass over the garden")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class WaterReduction extends Event {
+        @Label("Plants")
+        int plantCount;
+
+        @Label("Water-Stressed Plants")
+        int stressedPlants;
+
+        @Label("Parallel")
+        boolean parallel;
+    }
+
+    @Name("com.project.InsectAttack")
+    @Label("Insect Attack")
+    @Description("A random or manual insect attack")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class InsectAttack extends Event {
+        @Label("Plants")
+        int plantCount;
+
+        @Label("Damaged Plants")
+        int damagedPlants;
+
+        @Label("Insects")
+        String insects;
+
+        @Label("Manual")
+        boolean manual;
+    }
+
+    @Name("com.project.PestControl")
+    @Label("Pest Control")
+    @Description("An automatic or manual pest control sweep")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class PestControl extends Event {
+        @Label("Plants")
+        int plantCount;
+
+        @Label("Treated Cells")
+        int treatedCells;
+
+        @Label("Automatic")
+        boolean automatic;
+    }
+
+    @Name("com.project.HealthRecovery")
+    @Label("Health Recovery")
+    @Description("One health recovery tick of a plant")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class HealthRecovery extends Event {
+        @Label("Row")
+        int row;
+
+        @Label("Column")
+        int col;
+
+        @Label("Health Recovered")
+        int recovered;
+    }
+
+    @Name("com.project.AutomaticWatering")
+    @Label("Automatic Watering")
+    @Description("One automatic watering tick of a plant")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class AutomaticWatering extends Event {
+        @Label("Row")
+        int row;
+
+        @Label("Column")
+        int col;
+
+        @Label("Water Added")
+        int waterAdded;
+    }
+
+    @Name("com.project.PlantDeath")
+    @Label("Plant Death")
+    @Description("Removal of a dead plant")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class PlantDeath extends Event {
+        @Label("Row")
+        int row;
+
+        @Label("Column")
+        int col;
+
+        @Label("Plant Type")
+        String plantType;
+
+        @Label("Plants Left")
+        int plantCount;
+    }
+
+    @Name("com.project.StateReport")
+    @Label("State Report")
+    @Description("Generation of the garden performance report")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class StateReport extends Event {
+        @Label("Plants")
+        int plantCount;
+
+        @Label("Day")
+        int day;
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.engine;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded source of every random choice of a simulation, so a run can be reproduced from its seed.
+ *
+ * <p>Each subsystem draws from its own {@link SplittableRandom} stream, derived from the seed and
+ * the subsystem alone: adding random choices to one subsystem never changes the choices of
+ * another.</p>
+ */
+public final class SimulationRandom {
+
+    /**
+     * The parts of the simulation that make random choices.
+     */
+    public enum Subsystem {
+        INSECT_ATTACK
+    }
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+
+    /**
+     * @param seed The seed all streams are derived from.
+     */
+    public SimulationRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return A source with a seed that differs from run to run.
+     */
+    public static SimulationRandom unseeded() {
+        return new SimulationRandom(new SplittableRandom().nextLong());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return A new stream of the given subsystem; every call returns a stream with the same sequence.
+     */
+    public SplittableRandom stream(Subsystem subsystem) {
+        return new SplittableRandom(key(subsystem));
+    }
+
+    private long key(Subsystem subsystem) {
+        return mix64(seed + GOLDEN_GAMMA * (subsystem.ordinal() + 1));
+    }
+
+    /**
+     * The MurmurHash3 finalizer with David Stafford's variant 13 constants, as used by {@link SplittableRandom}.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
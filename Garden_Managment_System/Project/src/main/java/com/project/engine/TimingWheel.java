@@ -0,0 +1,352 @@
+package com.project.engine;
+
+/**
+ * Hierarchical timing wheel for per-plant timers, driven by the {@link EventScheduler}.
+ *
+ * <p>Time is divided into ticks of {@code tickMillis} simulated milliseconds. Level 0 has one slot
+ * per tick for the next {@value #SLOTS} ticks; each further level covers {@value #SLOTS} times the
+ * span of the one below and is cascaded down when the lower level wraps around. Timers are nodes
+ * of doubly linked slot lists, so scheduling and cancelling are O(1) and a cancelled timer is gone
+ * immediately instead of lingering in a queue. Timers fire on the first tick at or after their
+ * due time, in the order they were scheduled.</p>
+ *
+ * <p>Every timer belongs to a cell and carries a caller-defined tag; {@link #find(int, int)} looks
+ * a timer up by both, so callers need no maps of their own, and {@link #cancelAll(int)} drops all
+ * timers of a cell at once. The per-cell lists hang off a {@link ChunkedCellStore}, so cells
+ * without timers cost nothing.
+ * The wheel only keeps a scheduler event while it has live timers. Like the rest of the engine
+ * state, it must only be used on the simulation executor.</p>
+ */
+public class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4; // 64^4 ticks before timers are parked in the top level
+
+    private static final int NOT_QUEUED = -1;
+    private static final int FIRING = -2;
+
+    /**
+     * Handle of a scheduled plant timer.
+     */
+    public final class Timer {
+        private final int cell;
+        private final int tag;
+        private final Runnable action;
+        private final long periodTicks; // 0 for one-shot timers
+        private long deadlineTick;
+        private boolean cancelled;
+        private boolean spent; // One-shot timer whose action has started
+
+        // Slot list links; slotIndex is level * SLOTS + slot, NOT_QUEUED or FIRING
+        private Timer prev;
+        private Timer next;
+        private int slotIndex = NOT_QUEUED;
+
+        // Per-cell list links
+        private Timer cellPrev;
+        private Timer cellNext;
+
+        private Timer(int cell, int tag, long deadlineTick, long periodTicks, Runnable action) {
+            this.cell = cell;
+            this.tag = tag;
+            this.deadlineTick = deadlineTick;
+            this.periodTicks = periodTicks;
+            this.action = action;
+        }
+
+        /**
+         * Cancels the timer. Has no effect if it already fired (one-shot) or was cancelled.
+         */
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            if (slotIndex >= 0) {
+                unlinkFromSlot(this);
+            }
+            unlinkFromCell(this);
+            liveTimers--;
+            if (liveTimers == 0) {
+                stopTicking();
+            }
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * @return True until the timer is cancelled or, if it is one-shot, starts firing.
+         */
+        private boolean isPending() {
+            return !cancelled && !spent;
+        }
+    }
+
+    private final EventScheduler scheduler;
+    private final long tickMillis;
+    private final Timer[] slotHeads = new Timer[LEVELS * SLOTS];
+    private final Timer[] slotTails = new Timer[LEVELS * SLOTS];
+    private final ChunkedCellStore<Timer> cellHeads; // Most recently scheduled live timer of each cell
+    private final int cols;
+    private long currentTick;
+    private int liveTimers = 0;
+    private ScheduledEvent tickEvent;
+
+    /**
+     * @param scheduler  The scheduler that advances the wheel.
+     * @param tickMillis The wheel resolution, in simulated milliseconds.
+     * @param rows       The number of rows of the grid the timer cells belong to.
+     * @param cols       The number of columns of the grid; a cell is {@code row * cols + col}.
+     */
+    public TimingWheel(EventScheduler scheduler, long tickMillis, int rows, int cols) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive: " + tickMillis);
+        }
+        this.scheduler = scheduler;
+        this.tickMillis = tickMillis;
+        this.cellHeads = new ChunkedCellStore<>(rows, cols);
+        this.cols = cols;
+        this.currentTick = scheduler.now() / tickMillis;
+    }
+
+    /**
+     * Schedules a one-shot timer for a cell.
+     *
+     * @param cell        The cell the timer belongs to.
+     * @param tag         What the timer is for, see {@link #find(int, int)}.
+     * @param delayMillis Delay from now, in simulated milliseconds.
+     * @param action      The action to run.
+     * @return The timer, which can be cancelled.
+     */
+    public Timer schedule(int cell, int tag, long delayMillis, Runnable action) {
+        return add(new Timer(cell, tag, deadlineTick(delayMillis), 0, action));
+    }
+
+    /**
+     * Schedules a timer for a cell that fires every {@code periodMillis} after an initial delay.
+     *
+     * @param cell               The cell the timer belongs to.
+     * @param tag                What the timer is for, see {@link #find(int, int)}.
+     * @param initialDelayMillis Delay before the first firing, in simulated milliseconds.
+     * @param periodMillis       Interval between firings, in simulated milliseconds (at least one tick).
+     * @param action             The action to run.
+     * @return The timer, which can be cancelled.
+     */
+    public Timer scheduleAtFixedRate(int cell, int tag, long initialDelayMillis, long periodMillis, Runnable action) {
+        if (periodMillis < tickMillis) {
+            throw new IllegalArgumentException("Period must be at least one tick: " + periodMillis);
+        }
+        return add(new Timer(cell, tag, deadlineTick(initialDelayMillis), periodMillis / tickMillis, action));
+    }
+
+    /**
+     * Finds the timer of a cell with the given tag. A one-shot timer is no longer found once it
+     * starts firing; a periodic one is found while its action runs.
+     *
+     * @return The most recently scheduled such timer that has not fired or been cancelled, or
+     * {@code null} if there is none.
+     */
+    public Timer find(int cell, int tag) {
+        for (Timer timer = cellHeads.get(cell / cols, cell % cols); timer != null; timer = timer.cellNext) {
+            if (timer.tag == tag && timer.isPending()) return timer;
+        }
+        return null;
+    }
+
+    /**
+     * Cancels every timer of the given cell.
+     */
+    public void cancelAll(int cell) {
+        Timer timer;
+        while ((timer = cellHeads.get(cell / cols, cell % cols)) != null) {
+            timer.cancel();
+        }
+    }
+
+    /**
+     * @return The number of scheduled timers that have not fired (one-shot) or been cancelled.
+     */
+    public int getLiveTimerCount() {
+        return liveTimers;
+    }
+
+    private long deadlineTick(long delayMillis) {
+        // Round up, and never into a tick that has already been processed
+        long deadline = Math.floorDiv(scheduler.now() + Math.max(0, delayMillis) + tickMillis - 1, tickMillis);
+        return Math.max(deadline, currentTick + 1);
+    }
+
+    private Timer add(Timer timer) {
+        if (liveTimers == 0) {
+            startTicking();
+        }
+        liveTimers++;
+        linkToCell(timer);
+        insert(timer);
+        return timer;
+    }
+
+    private void insert(Timer timer) {
+        long delta = timer.deadlineTick - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        // Timers beyond the top level's span wait in its furthest slot and are re-inserted later
+        long slotTick = level == LEVELS - 1 && delta >= 1L << (SLOT_BITS * LEVELS)
+            ? currentTick + (SLOT_MASK << (SLOT_BITS * level))
+            : timer.deadlineTick;
+        int slot = (int) ((slotTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        linkToSlot(timer, level * SLOTS + slot);
+    }
+
+    private void startTicking() {
+        // Jump over the idle period; there is nothing to cascade while the wheel is empty
+        currentTick = Math.max(currentTick, scheduler.now() / tickMillis);
+        long firstDelay = (currentTick + 1) * tickMillis - scheduler.now();
+        tickEvent = scheduler.scheduleAtFixedRate(firstDelay, tickMillis, this::advance);
+    }
+
+    private void stopTicking() {
+        if (tickEvent != null) {
+            tickEvent.cancel();
+            tickEvent = null;
+        }
+    }
+
+    /**
+     * Processes every tick up to the current simulated time.
+     */
+    private void advance() {
+        long targetTick = scheduler.now() / tickMillis;
+        while (currentTick < targetTick && liveTimers > 0) {
+            currentTick++;
+            cascade();
+            fire((int) (currentTick & SLOT_MASK));
+        }
+        currentTick = Math.max(currentTick, targetTick);
+    }
+
+    /**
+     * Moves the timers of the higher-level slots that have come within range one level down.
+     */
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) return;
+
+            int slotIndex = level * SLOTS + (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Timer timer = detachSlot(slotIndex);
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                timer.slotIndex = NOT_QUEUED;
+                insert(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void fire(int slot) {
+        Timer timer = detachSlot(slot);
+        for (Timer t = timer; t != null; t = t.next) {
+            t.slotIndex = FIRING;
+        }
+
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+
+            if (!timer.cancelled) {
+                if (timer.deadlineTick > currentTick) {
+                    // Parked in the top level; not due yet
+                    timer.slotIndex = NOT_QUEUED;
+                    insert(timer);
+                } else {
+                    timer.spent = timer.periodTicks == 0;
+                    timer.action.run();
+                    if (!timer.cancelled) {
+                        if (timer.periodTicks > 0) {
+                            timer.slotIndex = NOT_QUEUED;
+                            timer.deadlineTick += timer.periodTicks;
+                            insert(timer);
+                        } else {
+                            timer.slotIndex = NOT_QUEUED;
+                            timer.cancelled = true; // Spent; later cancel() calls are no-ops
+                            unlinkFromCell(timer);
+                            liveTimers--;
+                            if (liveTimers == 0) {
+                                stopTicking();
+                            }
+                        }
+                    }
+                }
+            }
+            timer = next;
+        }
+    }
+
+    private Timer detachSlot(int slotIndex) {
+        Timer head = slotHeads[slotIndex];
+        slotHeads[slotIndex] = null;
+        slotTails[slotIndex] = null;
+        return head;
+    }
+
+    private void linkToSlot(Timer timer, int slotIndex) {
+        timer.slotIndex = slotIndex;
+        timer.next = null;
+        timer.prev = slotTails[slotIndex];
+        if (timer.prev == null) {
+            slotHeads[slotIndex] = timer;
+        } else {
+            timer.prev.next = timer;
+        }
+        slotTails[slotIndex] = timer;
+    }
+
+    private void unlinkFromSlot(Timer timer) {
+        int slotIndex = timer.slotIndex;
+        if (timer.prev == null) {
+            slotHeads[slotIndex] = timer.next;
+        } else {
+            timer.prev.next = timer.next;
+        }
+        if (timer.next == null) {
+            slotTails[slotIndex] = timer.prev;
+        } else {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+        timer.slotIndex = NOT_QUEUED;
+    }
+
+    private void linkToCell(Timer timer) {
+        Timer head = cellHeads.put(timer.cell / cols, timer.cell % cols, timer);
+        timer.cellNext = head;
+        if (head != null) {
+            head.cellPrev = timer;
+        }
+    }
+
+    private void unlinkFromCell(Timer timer) {
+        if (timer.cellPrev == null) {
+            if (timer.cellNext == null) {
+                cellHeads.remove(timer.cell / cols, timer.cell % cols);
+            } else {
+                cellHeads.put(timer.cell / cols, timer.cell % cols, timer.cellNext);
+            }
+        } else {
+            timer.cellPrev.cellNext = timer.cellNext;
+        }
+        if (timer.cellNext != null) {
+            timer.cellNext.cellPrev = timer.cellPrev;
+        }
+        timer.cellPrev = null;
+        timer.cellNext = null;
+    }
+}
@@ -3,33 +3,24 @@ package com.project.factory;
 import com.project.modules.*;
 import com.project.logger.Logger;
 
-import java.util.List;
-
 /**
  * Factory class responsible for creating instances of Plant subclasses based on PlantType.
  */
 public class PlantFactory {
 
     /**
-     * Creates and returns an instance of a Plant subclass based on the provided PlantType.
+     * Creates and returns an instance of a Plant subclass based on the provided PlantType. Prefer
+     * {@link #createPlant(String, PlantSpec)}, which needs no boxing or casts.
      *
-     * @param type                     The type of plant to create.
-     * @param name                     The name of the plant.
-     * @param waterRequirement         The water requirement of the plant.
-     * @param pestVulnerabilities      A list of pests that can attack the plant.
-     * @param temperatureToleranceLow  The lower bound of temperature tolerance.
-     * @param temperatureToleranceHigh The upper bound of temperature tolerance.
-     * @param additionalParams         Additional parameters required by specific PlantTypes.
+     * @param type             The type of plant to create.
+     * @param name             The name of the plant.
+     * @param additionalParams Additional parameters required by specific PlantTypes.
      * @return An instance of a Plant subclass.
      * @throws IllegalArgumentException if the PlantType is unsupported or parameters are invalid.
      */
-    public static Plant createPlant(
+    public static Plant createPlantFromParams(
             PlantType type,
             String name,
-            int waterRequirement,
-            List<String> pestVulnerabilities,
-            int temperatureToleranceLow,
-            int temperatureToleranceHigh,
             Object... additionalParams // Varargs for additional parameters
     ) {
         switch (type) {
@@ -43,16 +34,7 @@ public class PlantFactory {
                 } catch (ClassCastException e) {
                     throw new IllegalArgumentException("Invalid parameters for Apple. Expected integer for fruitYield.");
                 }
-                return new Apple(
-                        name,
-                        waterRequirement,
-                        pestVulnerabilities,
-                        temperatureToleranceLow,
-                        temperatureToleranceHigh,
-                        200,    // initialHeight in cm
-                        12,     // growthRate in cm/day
-                        appleFruitYield
-                );
+                return createPlant(name, PlantSpec.apple(appleFruitYield));
 
             case CHERRY:
                 if (additionalParams.length < 1) {
@@ -64,16 +46,7 @@ public class PlantFactory {
                 } catch (ClassCastException e) {
                     throw new IllegalArgumentException("Invalid parameters for Cherry. Expected integer for fruitYield.");
                 }
-                return new Cherry(
-                        name,
-                        waterRequirement,
-                        pestVulnerabilities,
-                        temperatureToleranceLow,
-                        temperatureToleranceHigh,
-                        180,    // initialHeight in cm
-                        10,     // growthRate in cm/day
-                        cherryFruitYield
-                );
+                return createPlant(name, PlantSpec.cherry(cherryFruitYield));
 
             case LAVENDER:
                 if (additionalParams.length < 1) {
@@ -85,16 +58,7 @@ public class PlantFactory {
                 } catch (ClassCastException e) {
                     throw new IllegalArgumentException("Invalid parameters for Lavender. Expected String for fragrance.");
                 }
-                return new Lavender(
-                        name,
-                        waterRequirement,
-                        pestVulnerabilities,
-                        temperatureToleranceLow,
-                        temperatureToleranceHigh,
-                        20,     // initialDensity
-                        30,     // trimmingFrequency in days
-                        fragrance
-                );
+                return createPlant(name, PlantSpec.lavender(fragrance));
 
             case BAMBOO:
                 if (additionalParams.length < 1) {
@@ -106,15 +70,7 @@ public class PlantFactory {
                 } catch (ClassCastException e) {
                     throw new IllegalArgumentException("Invalid parameters for Bamboo. Expected integer for growthRate.");
                 }
-                return new Bamboo(
-                        name,
-                        waterRequirement,
-                        pestVulnerabilities,
-                        temperatureToleranceLow,
-                        temperatureToleranceHigh,
-                        250,    // initialHeight in cm
-                        bambooGrowthRate
-                );
+                return createPlant(name, PlantSpec.bamboo(bambooGrowthRate));
 
             case SUNFLOWER:
                 if (additionalParams.length < 1) {
@@ -126,20 +82,41 @@ public class PlantFactory {
                 } catch (ClassCastException e) {
                     throw new IllegalArgumentException("Invalid parameters for Sunflower. Expected String for heliotropic.");
                 }
-                return new Sunflower(
-                        name,
-                        waterRequirement,
-                        pestVulnerabilities,
-                        temperatureToleranceLow,
-                        temperatureToleranceHigh,
-                        60,     // initialDensity
-                        30,     // trimmingFrequency in days
-                        heliotropic
-                );
+                return createPlant(name, PlantSpec.sunflower(heliotropic));
 
             default:
-                Logger.log(Logger.LogLevel.ERROR, "Unsupported PlantType: " + type);
+                Logger.log(Logger.LogLevel.ERROR, () -> "Unsupported PlantType: " + type);
                 throw new IllegalArgumentException("Unsupported PlantType: " + type);
         }
     }
+
+    /**
+     * Creates and returns an instance of a Plant subclass from a typed spec.
+     *
+     * <p>The plant shares the {@link SpeciesProfile} of its type (water requirement, temperature
+     * tolerance, pest vulnerabilities and initial growth parameters).</p>
+     *
+     * @param name The name of the plant.
+     * @param spec The type and per-plant parameters of the plant.
+     * @return An instance of a Plant subclass.
+     * @throws IllegalArgumentException if the PlantType is unsupported.
+     */
+    public static Plant createPlant(String name, PlantSpec spec) {
+        SpeciesProfile profile = SpeciesProfile.of(spec.getPlantType());
+        switch (spec.getPlantType()) {
+            case APPLE:
+                return new Apple(profile, name, spec.getFruitYield());
+            case CHERRY:
+                return new Cherry(profile, name, spec.getFruitYield());
+            case LAVENDER:
+                return new Lavender(profile, name, spec.getFragrance());
+            case BAMBOO:
+                return new Bamboo(profile, name, spec.getGrowthRate());
+            case SUNFLOWER:
+                return new Sunflower(profile, name, spec.getHeliotropic());
+            default:
+                Logger.log(Logger.LogLevel.ERROR, () -> "Unsupported PlantType: " + spec.getPlantType());
+                throw new IllegalArgumentException("Unsupported PlantType: " + spec.getPlantType());
+        }
+    }
 }
@@ -0,0 +1,121 @@
+package com.project.factory;
+
+import java.util.Objects;
+
+/**
+ * Immutable, typed description of the per-plant parameters of a {@link PlantType}, used instead of
+ * the untyped {@code Object...} parameters of {@link PlantFactory#createPlantFromParams}.
+ *
+ * <p>One spec can be used for any number of plants, so planting a whole region needs neither
+ * boxing nor casts per plant. Create a spec with the factory method of its type, or use
+ * {@link #defaults(PlantType)} for the values the garden plants with.</p>
+ */
+public final class PlantSpec {
+
+    private static final PlantSpec[] DEFAULTS = new PlantSpec[PlantType.values().length];
+
+    static {
+        DEFAULTS[PlantType.APPLE.ordinal()] = apple(150);                  // Estimated fruit yield for Apple
+        DEFAULTS[PlantType.CHERRY.ordinal()] = cherry(200);                // Estimated fruit yield for Cherry
+        DEFAULTS[PlantType.LAVENDER.ordinal()] = lavender("Calming Scent"); // Fragrance for Lavender
+        DEFAULTS[PlantType.BAMBOO.ordinal()] = bamboo(20);                 // Growth rate in cm/day for Bamboo
+        DEFAULTS[PlantType.SUNFLOWER.ordinal()] = sunflower("Heliotropic"); // Property for Sunflower
+    }
+
+    private final PlantType plantType;
+    private final int intValue;       // Fruit yield or growth rate
+    private final String stringValue; // Fragrance or heliotropic property
+
+    private PlantSpec(PlantType plantType, int intValue, String stringValue) {
+        this.plantType = plantType;
+        this.intValue = intValue;
+        this.stringValue = stringValue;
+    }
+
+    public static PlantSpec apple(int fruitYield) {
+        return new PlantSpec(PlantType.APPLE, fruitYield, null);
+    }
+
+    public static PlantSpec cherry(int fruitYield) {
+        return new PlantSpec(PlantType.CHERRY, fruitYield, null);
+    }
+
+    public static PlantSpec lavender(String fragrance) {
+        return new PlantSpec(PlantType.LAVENDER, 0, requireValue(fragrance, "fragrance"));
+    }
+
+    /**
+     * @param growthRate The growth rate in cm/day.
+     */
+    public static PlantSpec bamboo(int growthRate) {
+        return new PlantSpec(PlantType.BAMBOO, growthRate, null);
+    }
+
+    public static PlantSpec sunflower(String heliotropic) {
+        return new PlantSpec(PlantType.SUNFLOWER, 0, requireValue(heliotropic, "heliotropic"));
+    }
+
+    /**
+     * @return The shared spec with the default parameters of the given type.
+     */
+    public static PlantSpec defaults(PlantType plantType) {
+        return DEFAULTS[plantType.ordinal()];
+    }
+
+    private static String requireValue(String value, String parameter) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing " + parameter + " parameter.");
+        }
+        return value;
+    }
+
+    public PlantType getPlantType() {
+        return plantType;
+    }
+
+    /**
+     * @return The fruit yield of an Apple or Cherry spec.
+     */
+    public int getFruitYield() {
+        return intValue;
+    }
+
+    /**
+     * @return The growth rate in cm/day of a Bamboo spec.
+     */
+    public int getGrowthRate() {
+        return intValue;
+    }
+
+    /**
+     * @return The fragrance of a Lavender spec.
+     */
+    public String getFragrance() {
+        return stringValue;
+    }
+
+    /**
+     * @return The heliotropic property of a Sunflower spec.
+     */
+    public String getHeliotropic() {
+        return stringValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PlantSpec)) return false;
+        PlantSpec other = (PlantSpec) o;
+        return plantType == other.plantType && intValue == other.intValue && Objects.equals(stringValue, other.stringValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(plantType, intValue, stringValue);
+    }
+
+    @Override
+    public String toString() {
+        return plantType + "(" + (stringValue != null ? stringValue : intValue) + ")";
+    }
+}
@@ -0,0 +1,188 @@
+package com.project.logger;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Background writer used by {@link Logger} in asynchronous mode. Callers only enqueue a record into
+ * a bounded lock-free queue; a single daemon thread keeps the log file open, formats the records and
+ * writes them in batches every flush interval.
+ */
+class AsyncLogWriter {
+
+    /**
+     * A log entry as captured on the calling thread. Formatting is deferred to the writer thread.
+     */
+    private record Entry(long timestamp, Logger.LogLevel level, String message) {
+    }
+
+    private final String logFile;
+    private final DateTimeFormatter formatter;
+    private final long flushIntervalNanos;
+    private final int capacity;
+    private final Logger.OverflowPolicy overflowPolicy;
+
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger activeEnqueuers = new AtomicInteger(); // Callers between the closed check and the offer
+    private final AtomicLong droppedCount;
+    private long reportedDrops; // Only touched by the writer thread
+
+    private final Thread writerThread;
+    private volatile boolean closed = false; // Set by shutdown(); no entry is accepted afterwards
+    private volatile boolean stopped = false; // Set once the writer thread has exited, normally or not
+
+    /**
+     * @param droppedCount Counts the discarded entries; shared with the {@link Logger} so the count
+     *                     outlives this writer.
+     * @throws IllegalArgumentException if the flush interval or the capacity is not positive.
+     */
+    AsyncLogWriter(String logFile, DateTimeFormatter formatter, long flushIntervalMillis, int capacity, Logger.OverflowPolicy overflowPolicy,
+                   AtomicLong droppedCount) {
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive: " + flushIntervalMillis);
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.logFile = logFile;
+        this.formatter = formatter;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.droppedCount = droppedCount;
+        this.reportedDrops = droppedCount.get();
+
+        writerThread = new Thread(this::run, "garden-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Enqueues an entry, applying the overflow policy if the queue is full. Once the writer has been
+     * shut down or its thread has stopped, e.g. because the log file could not be written, entries
+     * are dropped and counted whatever the policy, so callers never wait for a writer that is gone.
+     */
+    void enqueue(Logger.LogLevel level, String message) {
+        // The writer waits for every caller that got past the check before its last drain
+        activeEnqueuers.incrementAndGet();
+        try {
+            if (closed || stopped) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            Entry entry = new Entry(System.currentTimeMillis(), level, message);
+
+            while (size.incrementAndGet() > capacity) {
+                size.decrementAndGet();
+                if (overflowPolicy != Logger.OverflowPolicy.BLOCK || closed || stopped) {
+                    droppedCount.incrementAndGet();
+                    return;
+                }
+                // Wake the writer so it frees space before the next interval
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+            queue.offer(entry);
+        } finally {
+            activeEnqueuers.decrementAndGet();
+        }
+    }
+
+    int getQueueDepth() {
+        return size.get();
+    }
+
+    /**
+     * Stops the writer thread after it has written every queued entry and closed the file.
+     */
+    void shutdown() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(logFile, true))) {
+            while (!closed) {
+                LockSupport.parkNanos(flushIntervalNanos);
+                writeBatch(writer);
+            }
+            // Final drain after shutdown was requested, once no caller can still add an entry
+            awaitEnqueuers();
+            writeBatch(writer);
+        } catch (IOException e) {
+            System.err.println("Error writing to log file: " + e.getMessage());
+        } finally {
+            stopped = true;
+            discardQueued();
+        }
+    }
+
+    private void awaitEnqueuers() {
+        while (activeEnqueuers.get() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Counts the entries the writer thread can no longer write as dropped.
+     */
+    private void discardQueued() {
+        awaitEnqueuers();
+        while (queue.poll() != null) {
+            size.decrementAndGet();
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private void writeBatch(BufferedWriter writer) throws IOException {
+        StringBuilder console = Logger.isConsoleLogging() ? new StringBuilder() : null;
+        Entry entry;
+        while ((entry = queue.poll()) != null) {
+            size.decrementAndGet();
+            writeLine(writer, console, format(entry.timestamp(), entry.level(), entry.message()));
+        }
+
+        if (overflowPolicy == Logger.OverflowPolicy.COUNT) {
+            long dropped = droppedCount.get();
+            if (dropped > reportedDrops) {
+                writeLine(writer, console, format(System.currentTimeMillis(), Logger.LogLevel.WARNING,
+                    (dropped - reportedDrops) + " log entries dropped because the log queue was full."));
+                reportedDrops = dropped;
+            }
+        }
+
+        writer.flush();
+        if (console != null && !console.isEmpty()) {
+            System.out.print(console);
+        }
+    }
+
+    private void writeLine(BufferedWriter writer, StringBuilder console, String logEntry) throws IOException {
+        writer.write(logEntry);
+        writer.newLine();
+        if (console != null) {
+            console.append(logEntry).append(System.lineSeparator());
+        }
+    }
+
+    private String format(long timestamp, Logger.LogLevel level, String message) {
+        String time = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()).format(formatter);
+        return "[" + time + "] [" + level + "] " + message;
+    }
+}
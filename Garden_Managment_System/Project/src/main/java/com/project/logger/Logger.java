@@ -5,6 +5,8 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 public class Logger {
     private static final String LOG_FILE = "garden_log.txt"; // Log file name
@@ -12,10 +14,32 @@ public class Logger {
 
     // Log levels
     public enum LogLevel {
-        INFO, WARNING, ERROR, DEBUG
+        INFO(1), WARNING(2), ERROR(3), DEBUG(0);
+
+        private final int severity; // Higher is more severe
+
+        LogLevel(int severity) {
+            this.severity = severity;
+        }
+
+        public int getSeverity() {
+            return severity;
+        }
     }
 
-    private static boolean enableConsoleLogging = true; // Toggle console logging
+    /**
+     * What an asynchronous {@link #log} call does when the queue is full.
+     */
+    public enum OverflowPolicy {
+        BLOCK, // Wait until the writer has made room
+        DROP,  // Discard the entry silently
+        COUNT  // Discard the entry and write a summary of how many were dropped
+    }
+
+    private static volatile boolean enableConsoleLogging = true; // Toggle console logging
+    private static volatile AsyncLogWriter asyncWriter; // Null while logging synchronously
+    private static volatile int minimumSeverity = LogLevel.INFO.severity; // Entries below this are discarded
+    private static final AtomicLong droppedCount = new AtomicLong(); // Across every asynchronous writer so far
 
     /**
      * Log a message to the log file and optionally to the console.
@@ -24,13 +48,59 @@ public class Logger {
      * @param message The message to log.
      */
     public static void log(LogLevel level, String message) {
+        if (level.severity < minimumSeverity) {
+            return;
+        }
+        write(level, message);
+    }
+
+    /**
+     * Log a lazily built message. The supplier is only invoked if the level is enabled, so callers
+     * on hot paths pay a single comparison for disabled levels.
+     *
+     * @param level           The log level (INFO, WARNING, ERROR, DEBUG).
+     * @param messageSupplier Builds the message to log.
+     */
+    public static void log(LogLevel level, Supplier<String> messageSupplier) {
+        if (level.severity < minimumSeverity) {
+            return;
+        }
+        write(level, messageSupplier.get());
+    }
+
+    /**
+     * Check whether messages at the given level are currently logged.
+     *
+     * @param level The log level to check.
+     * @return True if the level is at or above the minimum level.
+     */
+    public static boolean isEnabled(LogLevel level) {
+        return level.severity >= minimumSeverity;
+    }
+
+    /**
+     * Set the least severe level that is still logged (DEBUG &lt; INFO &lt; WARNING &lt; ERROR).
+     *
+     * @param level The minimum log level.
+     */
+    public static void setMinimumLevel(LogLevel level) {
+        minimumSeverity = level.severity;
+    }
+
+    private static void write(LogLevel level, String message) {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            writer.enqueue(level, message);
+            return;
+        }
+
         String timestamp = LocalDateTime.now().format(formatter);
         String logEntry = String.format("[%s] [%s] %s", timestamp, level, message);
 
         // Write to log file
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(LOG_FILE, true))) {
-            writer.write(logEntry);
-            writer.newLine();
+        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(LOG_FILE, true))) {
+            fileWriter.write(logEntry);
+            fileWriter.newLine();
         } catch (IOException e) {
             System.err.println("Error writing to log file: " + e.getMessage());
         }
@@ -41,6 +111,48 @@ public class Logger {
         }
     }
 
+    /**
+     * Switch to asynchronous logging: {@link #log} only enqueues the entry and a background thread
+     * keeps the log file open and writes queued entries in batches. Does nothing if already enabled.
+     *
+     * @param flushIntervalMillis How often the background writer flushes, in milliseconds.
+     * @param capacity            Maximum number of queued entries.
+     * @param overflowPolicy      What to do with new entries while the queue is full.
+     * @throws IllegalArgumentException if the flush interval or the capacity is not positive.
+     */
+    public static synchronized void enableAsync(long flushIntervalMillis, int capacity, OverflowPolicy overflowPolicy) {
+        if (asyncWriter == null) {
+            asyncWriter = new AsyncLogWriter(LOG_FILE, formatter, flushIntervalMillis, capacity, overflowPolicy, droppedCount);
+        }
+    }
+
+    /**
+     * Write every queued entry, close the log file and fall back to synchronous logging.
+     */
+    public static synchronized void shutdown() {
+        AsyncLogWriter writer = asyncWriter;
+        if (writer != null) {
+            asyncWriter = null;
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * @return The number of entries discarded because the asynchronous queue was full or its writer
+     * had stopped; still readable after {@link #shutdown()}.
+     */
+    public static long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return The number of entries waiting to be written by the asynchronous writer.
+     */
+    public static int getQueueDepth() {
+        AsyncLogWriter writer = asyncWriter;
+        return writer != null ? writer.getQueueDepth() : 0;
+    }
+
     /**
      * Enable or disable console logging.
      *
@@ -49,4 +161,8 @@ public class Logger {
     public static void setConsoleLogging(boolean enable) {
         enableConsoleLogging = enable;
     }
-}
\ No newline at end of file
+
+    static boolean isConsoleLogging() {
+        return enableConsoleLogging;
+    }
+}
@@ -3,14 +3,12 @@ package com.project.modules;
 import com.project.factory.PlantType;
 import com.project.logger.Logger;
 
-import java.util.List;
-
 public class Apple extends Tree {
     private int fruitYield;
     private static final String emoji = "🍏";
 
-    public Apple(String name, int waterRequirement, List<String> pestVulnerabilities, int tempLow, int tempHigh, int initialHeight, int growthRate, int fruitYield) {
-        super(PlantType.APPLE, name, waterRequirement, pestVulnerabilities, tempLow, tempHigh, initialHeight, growthRate);
+    public Apple(SpeciesProfile profile, String name, int fruitYield) {
+        super(checkProfile(profile, PlantType.APPLE), name, profile.getGrowthRate());
         this.fruitYield = fruitYield;
     }
 
@@ -24,19 +22,19 @@ public class Apple extends Tree {
 
     public void setFruitYield(int fruitYield) {
         this.fruitYield = fruitYield;
-        Logger.log(Logger.LogLevel.INFO, getName() + " fruit yield set to " + fruitYield + ".");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " fruit yield set to " + fruitYield + ".");
     }
 
     @Override
     public void grow() {
         super.grow();
-        Logger.log(Logger.LogLevel.INFO, getName() + " is growing and producing apples. 🍏");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " is growing and producing apples. 🍏");
     }
 
     @Override
     public void dailyCheck() {
         super.dailyCheck();
-        Logger.log(Logger.LogLevel.INFO, "Checking apple tree health for " + getName() + ".");
+        Logger.log(Logger.LogLevel.INFO, () -> "Checking apple tree health for " + getName() + ".");
     }
 
     @Override
@@ -1,17 +1,15 @@
 package com.project.modules;
 
-import com.project.factory.PlantType;
 import com.project.logger.Logger;
-import java.util.List;
 
 public class Bush extends Plant {
     private int density; // Represents how dense the bush is (arbitrary units)
     private int trimmingFrequency; // Days between required trimmings
 
-    public Bush(PlantType plant, String name, int waterRequirement, List<String> pestVulnerabilities, int tempLow, int tempHigh, int initialDensity, int trimmingFrequency) {
-        super(plant, name, waterRequirement, pestVulnerabilities, tempLow, tempHigh);
-        this.density = initialDensity;
-        this.trimmingFrequency = trimmingFrequency;
+    public Bush(SpeciesProfile profile, String name) {
+        super(profile, name);
+        this.density = profile.getInitialDensity();
+        this.trimmingFrequency = profile.getTrimmingFrequency();
     }
 
     // Getter and Setter for density
@@ -23,12 +21,21 @@ public class Bush extends Plant {
     public void setDensity(int density) {
         if (density >= 0) {
             this.density = density;
-            Logger.log(Logger.LogLevel.INFO, getName() + " density set to " + density + ".");
+            Logger.log(Logger.LogLevel.INFO, () -> getName() + " density set to " + density + ".");
         } else {
-            Logger.log(Logger.LogLevel.WARNING, "Invalid density value for " + getName() + ".");
+            Logger.log(Logger.LogLevel.WARNING, () -> "Invalid density value for " + getName() + ".");
         }
     }
 
+    /**
+     * Sets the density without logging, e.g. when a copy of a plant kept elsewhere is rebuilt.
+     *
+     * @param density The density, at least 0.
+     */
+    public void restoreDensity(int density) {
+        this.density = Math.max(0, density);
+    }
+
     // Getter and Setter for trimmingFrequency
     public int getTrimmingFrequency() {
         return trimmingFrequency;
@@ -37,9 +44,9 @@ public class Bush extends Plant {
     public void setTrimmingFrequency(int trimmingFrequency) {
         if (trimmingFrequency > 0) {
             this.trimmingFrequency = trimmingFrequency;
-            Logger.log(Logger.LogLevel.INFO, getName() + " trimming frequency set to every " + trimmingFrequency + " days.");
+            Logger.log(Logger.LogLevel.INFO, () -> getName() + " trimming frequency set to every " + trimmingFrequency + " days.");
         } else {
-            Logger.log(Logger.LogLevel.WARNING, "Invalid trimming frequency for " + getName() + ".");
+            Logger.log(Logger.LogLevel.WARNING, () -> "Invalid trimming frequency for " + getName() + ".");
         }
     }
 
@@ -49,18 +56,18 @@ public class Bush extends Plant {
 
         // Example growth behavior: Increase density over time
         density += 1; // Increment density
-        Logger.log(Logger.LogLevel.INFO, getName() + " has grown denser. Current density: " + density + ".");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " has grown denser. Current density: " + density + ".");
     }
 
     @Override
     public void dailyCheck() {
         if (!isAlive()) return;
 
-        Logger.log(Logger.LogLevel.INFO, "Performing daily check for bush: " + getName());
+        Logger.log(Logger.LogLevel.INFO, () -> "Performing daily check for bush: " + getName());
 
         // Example checks specific to bushes
         if (getCurrentWaterLevel() < getWaterRequirement()) {
-            Logger.log(Logger.LogLevel.WARNING, getName() + " is under-watered.");
+            Logger.log(Logger.LogLevel.WARNING, () -> getName() + " is under-watered.");
         }
 
         // Additional bush-specific daily checks can be added here
@@ -3,8 +3,6 @@ package com.project.modules;
 import com.project.factory.PlantType;
 import com.project.logger.Logger;
 
-import java.util.List;
-
 /**
  * Represents a Cherry tree.
  */
@@ -12,8 +10,8 @@ public class Cherry extends Tree {
     private int fruitYield; // Number of cherries per season
     private static final String emoji = "🍒";
 
-    public Cherry(String name, int waterRequirement, List<String> pestVulnerabilities, int tempLow, int tempHigh, int initialHeight, int growthRate, int fruitYield) {
-        super(PlantType.CHERRY, name, waterRequirement, pestVulnerabilities, tempLow, tempHigh, initialHeight, growthRate);
+    public Cherry(SpeciesProfile profile, String name, int fruitYield) {
+        super(checkProfile(profile, PlantType.CHERRY), name, profile.getGrowthRate());
         this.fruitYield = fruitYield;
     }
 
@@ -27,20 +25,20 @@ public class Cherry extends Tree {
 
     public void setFruitYield(int fruitYield) {
         this.fruitYield = fruitYield;
-        Logger.log(Logger.LogLevel.INFO, getName() + " fruit yield set to " + fruitYield + " cherries per season.");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " fruit yield set to " + fruitYield + " cherries per season.");
     }
 
     @Override
     public void grow() {
         super.grow();
         fruitYield += 15; // Increase yield with each growth cycle
-        Logger.log(Logger.LogLevel.INFO, getName() + " is producing cherries. 🍒 Total yield: " + fruitYield + " cherries.");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " is producing cherries. 🍒 Total yield: " + fruitYield + " cherries.");
     }
 
     @Override
     public void dailyCheck() {
         super.dailyCheck();
-        Logger.log(Logger.LogLevel.INFO, "Checking fruit yield for " + getName() + ".");
+        Logger.log(Logger.LogLevel.INFO, () -> "Checking fruit yield for " + getName() + ".");
     }
 
     @Override
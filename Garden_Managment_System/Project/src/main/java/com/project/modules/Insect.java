@@ -3,35 +3,33 @@ package com.project.modules;
 
 import com.project.factory.PlantType;
 
-import java.util.Map;
-
 public class Insect {
-    private String name;
-    private String emoji;
-    private Map<String, Integer> damageMap; // PlantType -> Damage
-
-    public Insect(String name, String emoji, Map<String, Integer> damageMap) {
-        this.name = name;
-        this.emoji = emoji;
-        this.damageMap = damageMap;
+    private final InsectType type;
+
+    public Insect(InsectType type) {
+        this.type = type;
     }
 
     // Getters
+    public InsectType getType() {
+        return type;
+    }
+
     public String getName() {
-        return name;
+        return type.getDisplayName();
     }
 
     public String getEmoji() {
-        return emoji;
+        return type.getEmoji();
     }
 
     public int getDamage(PlantType plantType) {
-        return damageMap.getOrDefault(plantType.name(), 0);
+        return type.getDamage(plantType);
     }
 
     // Utility method for string representation
     @Override
     public String toString() {
-        return name + " " + emoji;
+        return getName() + " " + getEmoji();
     }
 }
@@ -0,0 +1,128 @@
+package com.project.modules;
+
+import com.project.factory.PlantType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Enum representing the insects that can attack the garden, each with an emoji and a bit in an
+ * infestation mask.
+ *
+ * <p>The damage every insect does to every plant type is kept in a dense
+ * {@code int[InsectType][PlantType]} table indexed by ordinals, so a damage lookup is two array
+ * loads. A set of insects is an {@code int} with bit {@code ordinal()} set for each member.</p>
+ */
+public enum InsectType {
+    APHID("Aphid", "🪲"),
+    ANT("Ant", "🐜"),
+    GRASSHOPPER("Grasshopper", "🦗"),
+    LADYBUG("Ladybug", "🐞");
+
+    private static final InsectType[] VALUES = values();
+    private static final int[][] DAMAGE = new int[VALUES.length][PlantType.values().length];
+    private static final int[] VULNERABILITY_MASKS = new int[PlantType.values().length];
+
+    static {
+        setDamage(APHID, PlantType.APPLE, 10);
+        setDamage(APHID, PlantType.CHERRY, 15);
+        setDamage(APHID, PlantType.SUNFLOWER, 12);
+
+        setDamage(ANT, PlantType.APPLE, 8);
+        setDamage(ANT, PlantType.BAMBOO, 12);
+
+        setDamage(GRASSHOPPER, PlantType.CHERRY, 10);
+        setDamage(GRASSHOPPER, PlantType.BAMBOO, 7);
+        setDamage(GRASSHOPPER, PlantType.SUNFLOWER, 15);
+
+        setDamage(LADYBUG, PlantType.LAVENDER, 20);
+    }
+
+    private final String displayName;
+    private final String emoji;
+
+    /**
+     * Constructor to associate a display name and an emoji with an InsectType.
+     *
+     * @param displayName The name shown to the user.
+     * @param emoji       The emoji representing the insect.
+     */
+    InsectType(String displayName, String emoji) {
+        this.displayName = displayName;
+        this.emoji = emoji;
+    }
+
+    private static void setDamage(InsectType insect, PlantType plant, int damage) {
+        DAMAGE[insect.ordinal()][plant.ordinal()] = damage;
+        VULNERABILITY_MASKS[plant.ordinal()] |= insect.bit();
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getEmoji() {
+        return emoji;
+    }
+
+    /**
+     * @return The health this insect takes from a plant of the given type in one attack (0 if none).
+     */
+    public int getDamage(PlantType plantType) {
+        return DAMAGE[ordinal()][plantType.ordinal()];
+    }
+
+    /**
+     * @return The bit of this insect in an infestation mask.
+     */
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * @return The mask of the insects that can damage a plant of the given type.
+     */
+    public static int vulnerabilityMask(PlantType plantType) {
+        return VULNERABILITY_MASKS[plantType.ordinal()];
+    }
+
+    /**
+     * @return The mask with the bits of the given insects set.
+     */
+    public static int maskOf(Collection<InsectType> insects) {
+        int mask = 0;
+        for (InsectType insect : insects) {
+            mask |= insect.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * @return The insects in the mask.
+     */
+    public static Set<InsectType> setOf(int mask) {
+        Set<InsectType> insects = EnumSet.noneOf(InsectType.class);
+        for (InsectType insect : VALUES) {
+            if ((mask & insect.bit()) != 0) {
+                insects.add(insect);
+            }
+        }
+        return insects;
+    }
+
+    /**
+     * @return The display names of the insects in the mask, in declaration order.
+     */
+    public static List<String> namesOf(int mask) {
+        List<String> names = new ArrayList<>(Integer.bitCount(mask));
+        for (InsectType insect : VALUES) {
+            if ((mask & insect.bit()) != 0) {
+                names.add(insect.displayName);
+            }
+        }
+        return names;
+    }
+}
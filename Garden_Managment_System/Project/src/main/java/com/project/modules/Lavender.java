@@ -3,8 +3,6 @@ package com.project.modules;
 import com.project.factory.PlantType;
 import com.project.logger.Logger;
 
-import java.util.List;
-
 /**
  * Represents a Lavender plant.
  */
@@ -16,8 +14,8 @@ public class Lavender extends Bush {
         return emoji;
     }
 
-    public Lavender(String name, int waterRequirement, List<String> pestVulnerabilities, int tempLow, int tempHigh, int initialDensity, int trimmingFrequency, String fragrance) {
-        super(PlantType.LAVENDER, name, waterRequirement, pestVulnerabilities, tempLow, tempHigh, initialDensity, trimmingFrequency);
+    public Lavender(SpeciesProfile profile, String name, String fragrance) {
+        super(checkProfile(profile, PlantType.LAVENDER), name);
         this.fragrance = fragrance;
     }
 
@@ -28,19 +26,19 @@ public class Lavender extends Bush {
 
     public void setFragrance(String fragrance) {
         this.fragrance = fragrance;
-        Logger.log(Logger.LogLevel.INFO, getName() + " fragrance set to " + fragrance + ".");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " fragrance set to " + fragrance + ".");
     }
 
     @Override
     public void grow() {
         super.grow();
-        Logger.log(Logger.LogLevel.INFO, getName() + " is growing beautifully with a calming " + fragrance + " fragrance. 💜");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " is growing beautifully with a calming " + fragrance + " fragrance. 💜");
     }
 
     @Override
     public void dailyCheck() {
         super.dailyCheck();
-        Logger.log(Logger.LogLevel.INFO, "Checking fragrance levels for " + getName() + ".");
+        Logger.log(Logger.LogLevel.INFO, () -> "Checking fragrance levels for " + getName() + ".");
     }
 
     @Override
@@ -6,48 +6,56 @@ import com.project.logger.Logger;
 import java.util.List;
 
 /**
- * Abstract Plant class representing a generic plant in the garden simulation.
+ * Abstract Plant class representing a generic plant in the garden simulation. Everything that is
+ * the same for all plants of a type lives in the shared {@link SpeciesProfile}; a plant only holds
+ * its own mutable state.
+ *
+ * <p>The behaviour below only reads the state and the profile through the getters and changes
+ * the state through the {@code store} methods, so a view of a plant kept elsewhere (e.g. off the
+ * heap) only overrides those.</p>
  */
 public abstract class Plant {
+    private final SpeciesProfile profile;
     private String name;
-    private PlantType plantType;
-    private int waterRequirement;
     private int currentWaterLevel;
     private int health;
-    private List<String> pestVulnerabilities;
-    private int temperatureToleranceLow;
-    private int temperatureToleranceHigh;
     private boolean isAlive;
 
     /**
      * Constructor for the Plant class.
      *
-     * @param plantType              The type of the plant.
-     * @param name                   The name of the plant.
-     * @param waterRequirement       The water requirement of the plant.
-     * @param pestVulnerabilities    List of pests that the plant is vulnerable to.
-     * @param tempLow                The lower bound of temperature tolerance.
-     * @param tempHigh               The upper bound of temperature tolerance.
+     * @param profile The shared profile of the plant's species.
+     * @param name    The name of the plant.
      */
-    public Plant(PlantType plantType, String name, int waterRequirement, List<String> pestVulnerabilities, int tempLow, int tempHigh) {
-        this.plantType = plantType;
+    public Plant(SpeciesProfile profile, String name) {
+        this.profile = profile;
         this.name = name;
-        this.waterRequirement = waterRequirement;
         this.currentWaterLevel = 100; // Start with full water level
         this.health = 100; // Start with full health
-        this.pestVulnerabilities = pestVulnerabilities;
-        this.temperatureToleranceLow = tempLow;
-        this.temperatureToleranceHigh = tempHigh;
         this.isAlive = true;
     }
 
+    /**
+     * @throws IllegalArgumentException if the profile is not the one of the expected plant type.
+     */
+    static SpeciesProfile checkProfile(SpeciesProfile profile, PlantType expected) {
+        if (profile.getPlantType() != expected) {
+            throw new IllegalArgumentException("Expected a " + expected + " profile but got " + profile.getPlantType());
+        }
+        return profile;
+    }
+
     // Getters for necessary fields
     public String getName() {
         return name;
     }
 
+    public SpeciesProfile getProfile() {
+        return profile;
+    }
+
     public PlantType getPlantType() {
-        return plantType;
+        return getProfile().getPlantType();
     }
 
     public int getCurrentWaterLevel() {
@@ -55,11 +63,11 @@ public abstract class Plant {
     }
 
     public int getWaterRequirement() {
-        return waterRequirement;
+        return getProfile().getWaterRequirement();
     }
 
     public List<String> getPestVulnerabilities() {
-        return pestVulnerabilities;
+        return getProfile().getPestVulnerabilities();
     }
 
     public boolean isAlive() {
@@ -70,79 +78,108 @@ public abstract class Plant {
         return health;
     }
 
+    /**
+     * Stores a new health, 0-100%.
+     */
+    protected void storeHealth(int health) {
+        this.health = health;
+    }
+
+    /**
+     * Stores a new water level, 0-100%.
+     */
+    protected void storeWaterLevel(int waterLevel) {
+        this.currentWaterLevel = waterLevel;
+    }
+
+    protected void storeAlive(boolean alive) {
+        this.isAlive = alive;
+    }
+
     // Water management methods
     public void decreaseWaterLevel(int decreaseBy) {
-        currentWaterLevel = Math.max(currentWaterLevel - decreaseBy, 0);
-        if (currentWaterLevel == 0) {
+        int waterLevel = Math.max(getCurrentWaterLevel() - decreaseBy, 0);
+        storeWaterLevel(waterLevel);
+        if (waterLevel == 0) {
             setHealth(0);
-            Logger.log(Logger.LogLevel.WARNING, name + " has no water left and has died.");
+            Logger.log(Logger.LogLevel.WARNING, () -> getName() + " has no water left and has died.");
         }
     }
 
+    /**
+     * Sets the water level directly, e.g. when a saved garden is restored. Unlike
+     * {@link #decreaseWaterLevel(int)} this never kills the plant.
+     *
+     * @param waterLevel The new water level, clamped to 0-100%.
+     */
+    public void setCurrentWaterLevel(int waterLevel) {
+        storeWaterLevel(Math.max(0, Math.min(waterLevel, 100)));
+    }
+
     public void water(int amount) {
-        if (!isAlive) return;
+        if (!isAlive()) return;
 
-        currentWaterLevel = Math.min(currentWaterLevel + amount, 100); // Cap at 100%
-        Logger.log(Logger.LogLevel.INFO, name + " watered with " + amount + " units.");
+        int waterLevel = Math.min(getCurrentWaterLevel() + amount, 100); // Cap at 100%
+        storeWaterLevel(waterLevel);
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " watered with " + amount + " units.");
 
         // Optional: Overwatering logic
-        if (currentWaterLevel > waterRequirement * 2) {
+        if (waterLevel > getProfile().getWaterRequirement() * 2) {
             decreaseHealth(10); // Decrease health due to overwatering
-            Logger.log(Logger.LogLevel.WARNING, name + " has been overwatered and its health decreased.");
+            Logger.log(Logger.LogLevel.WARNING, () -> getName() + " has been overwatered and its health decreased.");
         }
     }
 
     // Health management methods
     public void decreaseHealth(int amount) {
-        if (!isAlive) return;
+        if (!isAlive()) return;
 
-        health = Math.max(health - amount, 0);
-        Logger.log(Logger.LogLevel.INFO, name + "'s health decreased by " + amount + ". Current health: " + health + "%");
+        int health = Math.max(getHealth() - amount, 0);
+        storeHealth(health);
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + "'s health decreased by " + amount + ". Current health: " + health + "%");
 
         if (health == 0) {
-            isAlive = false;
-            Logger.log(Logger.LogLevel.WARNING, name + " has died.");
+            storeAlive(false);
+            Logger.log(Logger.LogLevel.WARNING, () -> getName() + " has died.");
         }
     }
 
     public void increaseHealth(int amount) {
-        if (!isAlive) return;
+        if (!isAlive()) return;
 
-        health = Math.min(health + amount, 100);
-        Logger.log(Logger.LogLevel.INFO, name + "'s health increased by " + amount + ". Current health: " + health + "%");
+        int health = Math.min(getHealth() + amount, 100);
+        storeHealth(health);
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + "'s health increased by " + amount + ". Current health: " + health + "%");
     }
 
     public void setHealth(int health) {
-        this.health = Math.max(0, Math.min(health, 100));
-        if (this.health == 0) {
-            isAlive = false;
-            Logger.log(Logger.LogLevel.WARNING, name + " has died.");
+        int clamped = Math.max(0, Math.min(health, 100));
+        storeHealth(clamped);
+        if (clamped == 0) {
+            storeAlive(false);
+            Logger.log(Logger.LogLevel.WARNING, () -> getName() + " has died.");
         }
     }
 
     // Pest management methods
-    public void pestAttack(String pest) {
-        if (!isAlive) return;
+    public void pestAttack(InsectType insect) {
+        if (!isAlive()) return;
 
-        Logger.log(Logger.LogLevel.INFO, "Simulating pest attack on " + name + " by " + pest + ".");
-        if (pestVulnerabilities.contains(pest)) {
+        Logger.log(Logger.LogLevel.INFO, () -> "Simulating pest attack on " + getName() + " by " + insect.getDisplayName() + ".");
+        if ((getProfile().getVulnerabilityMask() & insect.bit()) != 0) {
             decreaseHealth(20); // Decrease health by a fixed amount or calculate dynamically
-            Logger.log(Logger.LogLevel.WARNING, name + " was attacked by " + pest + " and health decreased.");
+            Logger.log(Logger.LogLevel.WARNING, () -> getName() + " was attacked by " + insect.getDisplayName() + " and health decreased.");
         }
     }
 
-    public void setPestVulnerabilities(List<String> pestVulnerabilities) {
-        this.pestVulnerabilities = pestVulnerabilities;
-    }
-
     // Temperature management method
     public void adjustTemperature(int temperature) {
-        if (!isAlive) return;
+        if (!isAlive()) return;
 
-        Logger.log(Logger.LogLevel.INFO, "Adjusting temperature for " + name + " to " + temperature + " degrees.");
-        if (temperature < temperatureToleranceLow || temperature > temperatureToleranceHigh) {
+        Logger.log(Logger.LogLevel.INFO, () -> "Adjusting temperature for " + getName() + " to " + temperature + " degrees.");
+        if (temperature < getProfile().getTemperatureToleranceLow() || temperature > getProfile().getTemperatureToleranceHigh()) {
             decreaseHealth(15); // Decrease health due to unsuitable temperature
-            Logger.log(Logger.LogLevel.WARNING, name + " could not tolerate the temperature and health decreased.");
+            Logger.log(Logger.LogLevel.WARNING, () -> getName() + " could not tolerate the temperature and health decreased.");
         }
     }
 
@@ -153,11 +190,11 @@ public abstract class Plant {
 
     // Miscellaneous methods
     public void setAlive(boolean alive) {
-        this.isAlive = alive;
+        storeAlive(alive);
     }
 
     // Default implementation for special care instructions
     public void displaySpecialCareInstructions() {
-        Logger.log(Logger.LogLevel.INFO, name + " requires general care: Water as needed and maintain a suitable temperature.");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " requires general care: Water as needed and maintain a suitable temperature.");
     }
 }
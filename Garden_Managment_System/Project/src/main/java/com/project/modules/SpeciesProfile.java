@@ -0,0 +1,123 @@
+package com.project.modules;
+
+import com.project.factory.PlantType;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable characteristics shared by every plant of a {@link PlantType}: water requirement,
+ * temperature tolerance, the insects it is vulnerable to and its initial growth parameters.
+ *
+ * <p>There is exactly one profile per plant type, obtained with {@link #of(PlantType)}. Plants keep
+ * a reference to it and only store their own mutable state, so a plant costs the same few bytes
+ * however many of its species are in the garden.</p>
+ */
+public final class SpeciesProfile {
+
+    private static final SpeciesProfile[] PROFILES = new SpeciesProfile[PlantType.values().length];
+
+    static {
+        // Trees grow in height; bushes grow in density and are trimmed every 30 days
+        register(new SpeciesProfile(PlantType.APPLE, 5, 15, 35, 200, 12, 0, 0));
+        register(new SpeciesProfile(PlantType.CHERRY, 5, 15, 35, 180, 10, 0, 0));
+        register(new SpeciesProfile(PlantType.LAVENDER, 5, 15, 35, 0, 0, 20, 30));
+        register(new SpeciesProfile(PlantType.BAMBOO, 5, 15, 35, 250, 20, 0, 0));
+        register(new SpeciesProfile(PlantType.SUNFLOWER, 8, 15, 35, 0, 0, 60, 30)); // Higher water requirement for sunflower
+    }
+
+    private final PlantType plantType;
+    private final int waterRequirement;
+    private final int temperatureToleranceLow;
+    private final int temperatureToleranceHigh;
+    private final int vulnerabilityMask;
+    private final List<String> pestVulnerabilities;
+    private final int initialHeight;
+    private final int growthRate;
+    private final int initialDensity;
+    private final int trimmingFrequency;
+
+    private SpeciesProfile(PlantType plantType, int waterRequirement, int temperatureToleranceLow, int temperatureToleranceHigh,
+                           int initialHeight, int growthRate, int initialDensity, int trimmingFrequency) {
+        this.plantType = plantType;
+        this.waterRequirement = waterRequirement;
+        this.temperatureToleranceLow = temperatureToleranceLow;
+        this.temperatureToleranceHigh = temperatureToleranceHigh;
+        // A plant is vulnerable to every insect that can damage it
+        this.vulnerabilityMask = InsectType.vulnerabilityMask(plantType);
+        this.pestVulnerabilities = Collections.unmodifiableList(InsectType.namesOf(vulnerabilityMask));
+        this.initialHeight = initialHeight;
+        this.growthRate = growthRate;
+        this.initialDensity = initialDensity;
+        this.trimmingFrequency = trimmingFrequency;
+    }
+
+    private static void register(SpeciesProfile profile) {
+        PROFILES[profile.plantType.ordinal()] = profile;
+    }
+
+    /**
+     * @return The shared profile of the given plant type.
+     */
+    public static SpeciesProfile of(PlantType plantType) {
+        return PROFILES[plantType.ordinal()];
+    }
+
+    public PlantType getPlantType() {
+        return plantType;
+    }
+
+    public int getWaterRequirement() {
+        return waterRequirement;
+    }
+
+    public int getTemperatureToleranceLow() {
+        return temperatureToleranceLow;
+    }
+
+    public int getTemperatureToleranceHigh() {
+        return temperatureToleranceHigh;
+    }
+
+    /**
+     * @return The {@link InsectType} bitmask of the insects that can damage this species.
+     */
+    public int getVulnerabilityMask() {
+        return vulnerabilityMask;
+    }
+
+    /**
+     * @return The names of the insects that can damage this species (unmodifiable).
+     */
+    public List<String> getPestVulnerabilities() {
+        return pestVulnerabilities;
+    }
+
+    /**
+     * @return The height of a new tree in cm (0 for bushes).
+     */
+    public int getInitialHeight() {
+        return initialHeight;
+    }
+
+    /**
+     * @return The default growth rate of a tree in cm/day (0 for bushes).
+     */
+    public int getGrowthRate() {
+        return growthRate;
+    }
+
+    /**
+     * @return The density of a new bush (0 for trees).
+     */
+    public int getInitialDensity() {
+        return initialDensity;
+    }
+
+    /**
+     * @return The default number of days between trimmings of a bush (0 for trees).
+     */
+    public int getTrimmingFrequency() {
+        return trimmingFrequency;
+    }
+}
@@ -3,8 +3,6 @@ package com.project.modules;
 import com.project.factory.PlantType;
 import com.project.logger.Logger;
 
-import java.util.List;
-
 /**
  * Represents a Sunflower plant.
  */
@@ -16,8 +14,8 @@ public class Sunflower extends Bush {
         return emoji;
     }
 
-    public Sunflower(String name, int waterRequirement, List<String> pestVulnerabilities, int tempLow, int tempHigh, int initialDensity, int trimmingFrequency, String heliotropic) {
-        super(PlantType.SUNFLOWER, name, waterRequirement, pestVulnerabilities, tempLow, tempHigh, initialDensity, trimmingFrequency);
+    public Sunflower(SpeciesProfile profile, String name, String heliotropic) {
+        super(checkProfile(profile, PlantType.SUNFLOWER), name);
         this.heliotropic = heliotropic;
     }
 
@@ -28,19 +26,19 @@ public class Sunflower extends Bush {
 
     public void setHeliotropic(String heliotropic) {
         this.heliotropic = heliotropic;
-        Logger.log(Logger.LogLevel.INFO, getName() + " heliotropic property set to " + heliotropic + ".");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " heliotropic property set to " + heliotropic + ".");
     }
 
     @Override
     public void grow() {
         super.grow();
-        Logger.log(Logger.LogLevel.INFO, getName() + " is following the sun and growing taller. 🌻");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " is following the sun and growing taller. 🌻");
     }
 
     @Override
     public void dailyCheck() {
         super.dailyCheck();
-        Logger.log(Logger.LogLevel.INFO, "Checking sun tracking for " + getName() + ".");
+        Logger.log(Logger.LogLevel.INFO, () -> "Checking sun tracking for " + getName() + ".");
     }
 
     @Override
@@ -1,16 +1,14 @@
 package com.project.modules;
 
-import com.project.factory.PlantType;
 import com.project.logger.Logger;
-import java.util.List;
 
 public class Tree extends Plant {
     private int height; // in centimeters
     private int growthRate; // centimeters per day
 
-    public Tree(PlantType plant, String name, int waterRequirement, List<String> pestVulnerabilities, int tempLow, int tempHigh, int initialHeight, int growthRate) {
-        super(plant, name, waterRequirement, pestVulnerabilities, tempLow, tempHigh);
-        this.height = initialHeight;
+    public Tree(SpeciesProfile profile, String name, int growthRate) {
+        super(profile, name);
+        this.height = profile.getInitialHeight();
         this.growthRate = growthRate;
     }
 
@@ -22,12 +20,21 @@ public class Tree extends Plant {
     public void setHeight(int height) {
         if (height >= 0) {
             this.height = height;
-            Logger.log(Logger.LogLevel.INFO, getName() + " height set to " + height + " cm.");
+            Logger.log(Logger.LogLevel.INFO, () -> getName() + " height set to " + height + " cm.");
         } else {
-            Logger.log(Logger.LogLevel.WARNING, "Invalid height value for " + getName() + ".");
+            Logger.log(Logger.LogLevel.WARNING, () -> "Invalid height value for " + getName() + ".");
         }
     }
 
+    /**
+     * Sets the height without logging, e.g. when a copy of a plant kept elsewhere is rebuilt.
+     *
+     * @param height The height in centimeters, at least 0.
+     */
+    public void restoreHeight(int height) {
+        this.height = Math.max(0, height);
+    }
+
     // Getter and Setter for growthRate
     public int getGrowthRate() {
         return growthRate;
@@ -36,9 +43,9 @@ public class Tree extends Plant {
     public void setGrowthRate(int growthRate) {
         if (growthRate >= 0) {
             this.growthRate = growthRate;
-            Logger.log(Logger.LogLevel.INFO, getName() + " growth rate set to " + growthRate + " cm/day.");
+            Logger.log(Logger.LogLevel.INFO, () -> getName() + " growth rate set to " + growthRate + " cm/day.");
         } else {
-            Logger.log(Logger.LogLevel.WARNING, "Invalid growth rate for " + getName() + ".");
+            Logger.log(Logger.LogLevel.WARNING, () -> "Invalid growth rate for " + getName() + ".");
         }
     }
 
@@ -47,18 +54,18 @@ public class Tree extends Plant {
         if (!isAlive()) return;
 
         height += growthRate;
-        Logger.log(Logger.LogLevel.INFO, getName() + " has grown by " + growthRate + " cm. Current height: " + height + " cm.");
+        Logger.log(Logger.LogLevel.INFO, () -> getName() + " has grown by " + growthRate + " cm. Current height: " + height + " cm.");
     }
 
     @Override
     public void dailyCheck() {
         if (!isAlive()) return;
 
-        Logger.log(Logger.LogLevel.INFO, "Performing daily check for tree: " + getName());
+        Logger.log(Logger.LogLevel.INFO, () -> "Performing daily check for tree: " + getName());
 
         // Example checks specific to trees
         if (getCurrentWaterLevel() < getWaterRequirement()) {
-            Logger.log(Logger.LogLevel.WARNING, getName() + " is under-watered.");
+            Logger.log(Logger.LogLevel.WARNING, () -> getName() + " is under-watered.");
         }
 
         // Additional tree-specific daily checks can be added here
@@ -1,11 +1,17 @@
 module com.project {
     requires javafx.controls;
     requires javafx.fxml;
+    requires java.management;
+    requires jdk.jfr;
 
     requires org.kordamp.bootstrapfx.core;
 
     opens com.project to javafx.fxml;
 //    exports com.project;
     exports com.project.controller;
+    exports com.project.engine;
+    exports com.project.factory;
+    exports com.project.logger;
+    exports com.project.modules;
     opens com.project.controller to javafx.fxml;
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package com.project.engine;
+
+import com.project.factory.PlantType;
+import com.project.logger.Logger;
+import com.project.modules.Insect;
+import com.project.modules.InsectType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.project.engine.GardenScenarios.describe;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GardenEngineTest {
+
+    // Large enough for the water reduction to run on the tick pool
+    private static final int LARGE_SIZE = 100;
+    private static final long TEN_MINUTES = 10 * 60 * 1000L;
+
+    @BeforeAll
+    static void quietLogger() {
+        GardenScenarios.quietLogger();
+    }
+
+    @Test
+    void parallelTickMatchesTheSerialTick() {
+        for (GardenEngine.PlantStorage storage : GardenEngine.PlantStorage.values()) {
+            ForkJoinPool tickPool = new ForkJoinPool(4);
+            EventDigest serialEvents = new EventDigest();
+            EventDigest parallelEvents = new EventDigest();
+            GardenEngine serial = new GardenEngine(LARGE_SIZE, LARGE_SIZE, Runnable::run, serialEvents, new SimulationRandom(17), storage);
+            GardenEngine parallel = new GardenEngine(LARGE_SIZE, LARGE_SIZE, Runnable::run, parallelEvents, new SimulationRandom(17), storage);
+            serial.setTickPool(null);
+            parallel.setTickPool(tickPool);
+            runLargeScenario(serial);
+            runLargeScenario(parallel);
+
+            assertTrue(serialEvents.count > 0, "no events");
+            assertEquals(describe(serial), describe(parallel), storage + " garden");
+            assertEquals(serialEvents.value(), parallelEvents.value(), storage + " events");
+            serial.stop();
+            parallel.stop();
+            tickPool.shutdown();
+        }
+    }
+
+    /**
+     * Fills every cell, then lets a hot garden dry out, get attacked and get watered.
+     */
+    private static void runLargeScenario(GardenEngine engine) {
+        PlantType[] types = PlantType.values();
+        for (int cell = 0; cell < LARGE_SIZE * LARGE_SIZE; cell++) {
+            engine.plant(cell / LARGE_SIZE, cell % LARGE_SIZE, types[cell % types.length]);
+        }
+        engine.setTemperature(38);
+        engine.runFor(TEN_MINUTES);
+        engine.insectAttack(List.of(new Insect(InsectType.APHID)));
+        engine.waterAll(10);
+        engine.runFor(TEN_MINUTES);
+    }
+
+    /**
+     * Digests every listener callback in order, as a garden of this size sends too many to keep.
+     */
+    private static final class EventDigest implements GardenListener {
+        private final MessageDigest digest;
+        private long count;
+
+        EventDigest() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void cellChanged(int row, int col) {
+            record("changed " + row + "," + col);
+        }
+
+        @Override
+        public void cellCleared(int row, int col) {
+            record("cleared " + row + "," + col);
+        }
+
+        @Override
+        public void dayChanged(int day) {
+            record("day " + day);
+        }
+
+        @Override
+        public void log(Logger.LogLevel level, String message) {
+            record(level + " " + message);
+        }
+
+        @Override
+        public void logImportant(Logger.LogLevel level, String message) {
+            record("important " + level + " " + message);
+        }
+
+        @Override
+        public void alert(String title, String content) {
+            record("alert " + title + ": " + content);
+        }
+
+        private void record(String event) {
+            digest.update(event.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            count++;
+        }
+
+        /**
+         * @return The number of events and the digest of their sequence.
+         */
+        String value() {
+            return count + " " + HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
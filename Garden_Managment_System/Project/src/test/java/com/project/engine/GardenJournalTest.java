@@ -0,0 +1,66 @@
+package com.project.engine;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.project.engine.GardenScenarios.SIZE;
+import static com.project.engine.GardenScenarios.describe;
+import static com.project.engine.GardenScenarios.runScenario;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GardenJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void quietLogger() {
+        GardenScenarios.quietLogger();
+    }
+
+    @Test
+    void replayRebuildsTheJournaledGarden() throws IOException {
+        Path file = directory.resolve("garden.journal");
+        GardenEngine original = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {}, new SimulationRandom(7));
+        GardenJournal journal = GardenJournal.open(file, SIZE, SIZE);
+        original.setJournal(journal);
+        runScenario(original);
+        journal.close();
+        String expected = describe(original);
+        original.stop();
+
+        GardenEngine replayed = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {});
+        long commands = GardenReplay.replay(replayed, file, -1);
+
+        assertTrue(commands > 0, "nothing replayed");
+        assertEquals(expected, describe(replayed));
+        replayed.stop();
+    }
+
+    @Test
+    void replayContinuesFromASaveFile() throws IOException {
+        Path journalFile = directory.resolve("garden.journal");
+        Path saveFile = directory.resolve("garden.sav");
+        GardenEngine original = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {}, new SimulationRandom(11));
+        GardenJournal journal = GardenJournal.open(journalFile, SIZE, SIZE);
+        original.setJournal(journal);
+        runScenario(original);
+        GardenSaveFile.save(original, saveFile);
+        runScenario(original);
+        journal.close();
+        String expected = describe(original);
+        original.stop();
+
+        GardenEngine restored = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {});
+        long position = GardenSaveFile.load(restored, saveFile);
+        GardenReplay.replay(restored, journalFile, position);
+
+        assertEquals(expected, describe(restored));
+        restored.stop();
+    }
+}
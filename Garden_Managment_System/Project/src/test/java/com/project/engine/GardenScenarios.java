@@ -0,0 +1,78 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.logger.Logger;
+import com.project.modules.Insect;
+import com.project.modules.InsectType;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * The garden scenario and the garden description the engine tests compare engines with.
+ */
+final class GardenScenarios {
+
+    static final int SIZE = 12;
+    static final long HALF_HOUR = 30 * 60 * 1000L;
+
+    private GardenScenarios() {
+    }
+
+    /**
+     * Keeps the plants' log messages out of the test output.
+     */
+    static void quietLogger() {
+        Logger.setConsoleLogging(false);
+        Logger.setMinimumLevel(Logger.LogLevel.ERROR);
+    }
+
+    /**
+     * A few simulated days of every kind of command on a {@value #SIZE}x{@value #SIZE} garden,
+     * interleaved with the timers.
+     */
+    static void runScenario(GardenEngine engine) {
+        PlantType[] types = PlantType.values();
+        for (int cell = 0; cell < SIZE * SIZE; cell += 2) {
+            engine.plant(cell / SIZE, cell % SIZE, types[cell % types.length]);
+        }
+        engine.plantAll(new CellRegion(0, 0, 2, SIZE), PlantType.LAVENDER, PlantSpec.lavender("Mint"));
+        for (int day = 0; day < 4; day++) {
+            engine.runFor(HALF_HOUR);
+            engine.waterAll(20);
+            engine.setTemperature(15 + day * 7);
+            engine.insectAttack(List.of(new Insect(InsectType.ANT), new Insect(InsectType.APHID)));
+            engine.runFor(HALF_HOUR - 1);
+            engine.applyPestControl(EnumSet.of(InsectType.ANT));
+            engine.removePlant(day, day * 3);
+            engine.plant(day + 4, day * 2, PlantType.BAMBOO);
+        }
+    }
+
+    /**
+     * @return Every plant of a fresh snapshot, the temperature and the lifetime totals.
+     */
+    static String describe(GardenEngine engine) {
+        StringBuilder description = new StringBuilder(describe(engine.snapshot()));
+        GardenStatistics statistics = engine.getStatistics();
+        description.append(engine.getTemperature()).append(' ')
+            .append(statistics.getTotalPlantsPlanted()).append(' ')
+            .append(statistics.getTotalPlantsDied()).append(' ')
+            .append(statistics.getTotalPlantsRemoved()).append(' ')
+            .append(statistics.getTotalWaterAdded()).append(' ')
+            .append(statistics.getTotalPestControlsApplied());
+        return description.toString();
+    }
+
+    /**
+     * @return Every plant of the snapshot, one per line.
+     */
+    static String describe(GardenSnapshot snapshot) {
+        StringBuilder description = new StringBuilder();
+        snapshot.forEach(plant -> description.append(plant.row()).append(',').append(plant.col()).append(' ')
+            .append(plant.name()).append(' ').append(plant.spec()).append(' ').append(plant.health()).append(' ')
+            .append(plant.waterLevel()).append(' ').append(plant.infestation()).append(' ').append(plant.recovering()).append('\n'));
+        return description.toString();
+    }
+}
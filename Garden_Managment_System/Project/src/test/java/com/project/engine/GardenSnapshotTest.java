@@ -0,0 +1,111 @@
+package com.project.engine;
+
+import com.project.factory.PlantType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.project.engine.GardenScenarios.SIZE;
+import static com.project.engine.GardenScenarios.describe;
+import static com.project.engine.GardenScenarios.runScenario;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GardenSnapshotTest {
+
+    @BeforeAll
+    static void quietLogger() {
+        GardenScenarios.quietLogger();
+    }
+
+    @Test
+    void olderSnapshotIsUnchangedByLaterChanges() {
+        GardenEngine engine = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {}, new SimulationRandom(19));
+        for (int cell = 0; cell < SIZE * SIZE; cell += 3) {
+            engine.plant(cell / SIZE, cell % SIZE, PlantType.values()[cell % PlantType.values().length]);
+        }
+        engine.waterAll(15);
+        GardenSnapshot older = engine.snapshot();
+        String olderPlants = describe(older);
+        long olderVersion = older.getVersion();
+        int olderPlantCount = older.getPlantCount();
+        int olderTemperature = older.getTemperature();
+
+        runScenario(engine);
+        GardenSnapshot newer = engine.snapshot();
+
+        assertTrue(newer.getVersion() > olderVersion, "no change after the scenario");
+        assertEquals(olderPlants, describe(older));
+        assertEquals(olderVersion, older.getVersion());
+        assertEquals(olderPlantCount, older.getPlantCount());
+        assertEquals(olderTemperature, older.getTemperature());
+        engine.stop();
+    }
+
+    @Test
+    void derivedSnapshotSharesItsUntouchedChunks() {
+        // Deep enough for a table level above the chunks: 100 * 100 cells > 64 * 64
+        int size = 100;
+        int farCell = 90 * size;
+        GardenEngine engine = new GardenEngine(size, size, Runnable::run, new GardenListener() {});
+        engine.plant(0, 0, PlantType.APPLE);
+        engine.plant(0, GardenSnapshot.CHUNK_SIZE, PlantType.CHERRY);
+        engine.plant(farCell / size, farCell % size, PlantType.BAMBOO);
+        GardenSnapshot first = engine.snapshot();
+
+        engine.removePlant(0, 0);
+        GardenSnapshot second = engine.snapshot();
+
+        assertNotSame(first.chunkOf(0), second.chunkOf(0));
+        // Same table as the changed chunk, other chunk
+        assertSame(first.chunkOf(GardenSnapshot.CHUNK_SIZE), second.chunkOf(GardenSnapshot.CHUNK_SIZE));
+        // Other table
+        assertSame(first.chunkOf(farCell), second.chunkOf(farCell));
+        assertEquals(PlantType.APPLE, first.getPlant(0, 0).plantType());
+        assertNull(second.getPlant(0, 0));
+        // Nothing changed since: the snapshot itself is reused
+        assertSame(second, engine.snapshot());
+        engine.stop();
+    }
+
+    @Test
+    void removedAndReplantedCellsShowTheirLatestPlant() {
+        GardenEngine engine = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {});
+        engine.plant(1, 1, PlantType.APPLE);
+        engine.plant(2, 2, PlantType.APPLE);
+        engine.plant(3, 3, PlantType.LAVENDER);
+        engine.waterAll(25);
+        GardenSnapshot before = engine.snapshot();
+
+        // Replanted with another type, with the same type, removed, and planted and removed again
+        engine.removePlant(1, 1);
+        engine.plant(1, 1, PlantType.CHERRY);
+        engine.removePlant(2, 2);
+        engine.plant(2, 2, PlantType.APPLE);
+        engine.removePlant(3, 3);
+        engine.plant(4, 4, PlantType.SUNFLOWER);
+        engine.removePlant(4, 4);
+        GardenSnapshot after = engine.snapshot();
+
+        GardenEngine fresh = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {});
+        fresh.plant(1, 1, PlantType.CHERRY);
+        fresh.plant(2, 2, PlantType.APPLE);
+        GardenSnapshot expected = fresh.snapshot();
+
+        assertEquals(expected.getPlant(1, 1), after.getPlant(1, 1));
+        assertEquals(expected.getPlant(2, 2), after.getPlant(2, 2));
+        assertNull(after.getPlant(3, 3));
+        assertNull(after.getPlant(4, 4));
+        assertEquals(2, after.getPlantCount());
+
+        assertEquals(PlantType.APPLE, before.getPlant(1, 1).plantType());
+        // Plants start with full water, so the watering overwatered them
+        assertTrue(before.getPlant(2, 2).health() < expected.getPlant(2, 2).health(), "overwatering not in the older snapshot");
+        assertEquals(PlantType.LAVENDER, before.getPlant(3, 3).plantType());
+        assertEquals(3, before.getPlantCount());
+        engine.stop();
+        fresh.stop();
+    }
+}
@@ -0,0 +1,65 @@
+package com.project.engine;
+
+import com.project.factory.PlantType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static com.project.engine.GardenScenarios.SIZE;
+import static com.project.engine.GardenScenarios.describe;
+import static com.project.engine.GardenScenarios.runScenario;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedStateStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void quietLogger() {
+        GardenScenarios.quietLogger();
+    }
+
+    @Test
+    void restoreRebuildsTheSyncedGarden() throws IOException {
+        Path file = directory.resolve("garden.state");
+        GardenEngine original = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {}, new SimulationRandom(13));
+        MappedStateStore store = MappedStateStore.open(file, SIZE, SIZE);
+        assertFalse(store.hasState());
+        original.setStateStore(store);
+        runScenario(original);
+        String expected = describe(original);
+        store.close();
+        original.stop();
+
+        GardenEngine restored = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {});
+        try (MappedStateStore reopened = MappedStateStore.open(file, SIZE, SIZE)) {
+            assertTrue(reopened.hasState());
+            assertEquals(original.getPlantCount(), reopened.restore(restored));
+        }
+
+        assertEquals(expected, describe(restored));
+        restored.stop();
+    }
+
+    @Test
+    void openRejectsTheStoreOfAnotherGardenSize() throws IOException {
+        Path file = directory.resolve("garden.state");
+        GardenEngine engine = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {});
+        try (MappedStateStore store = MappedStateStore.open(file, SIZE, SIZE)) {
+            engine.setStateStore(store);
+            engine.plant(0, 0, PlantType.APPLE);
+        }
+        engine.stop();
+
+        assertThrows(IOException.class, () -> MappedStateStore.open(file, SIZE, SIZE + 1));
+        // Same number of cells, other shape
+        assertThrows(IOException.class, () -> MappedStateStore.open(file, SIZE * 2, SIZE / 2));
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.engine;
+
+import com.project.factory.PlantType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.project.engine.GardenScenarios.SIZE;
+import static com.project.engine.GardenScenarios.describe;
+import static com.project.engine.GardenScenarios.runScenario;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapPlantStoreTest {
+
+    @BeforeAll
+    static void quietLogger() {
+        GardenScenarios.quietLogger();
+    }
+
+    @Test
+    void offHeapGardenEvolvesLikeTheHeapGarden() {
+        GardenEngine onHeap = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {}, new SimulationRandom(3),
+            GardenEngine.PlantStorage.HEAP);
+        GardenEngine offHeap = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {}, new SimulationRandom(3),
+            GardenEngine.PlantStorage.OFF_HEAP);
+        runScenario(onHeap);
+        runScenario(offHeap);
+
+        assertTrue(onHeap.getPlantCount() > 0, "every plant died");
+        assertEquals(describe(onHeap), describe(offHeap));
+        onHeap.stop();
+        offHeap.stop();
+    }
+
+    @Test
+    void offHeapPlantsGrowLikeHeapPlants() {
+        GardenEngine onHeap = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {}, new SimulationRandom(5),
+            GardenEngine.PlantStorage.HEAP);
+        GardenEngine offHeap = new GardenEngine(SIZE, SIZE, Runnable::run, new GardenListener() {}, new SimulationRandom(5),
+            GardenEngine.PlantStorage.OFF_HEAP);
+        PlantType[] types = PlantType.values();
+        for (GardenEngine engine : List.of(onHeap, offHeap)) {
+            for (int col = 0; col < types.length; col++) {
+                engine.plant(0, col, types[col]);
+            }
+            for (int day = 0; day < 30; day++) {
+                for (int col = 0; col < types.length; col++) {
+                    engine.getPlant(0, col).grow();
+                    engine.getPlant(0, col).dailyCheck();
+                }
+            }
+        }
+
+        assertEquals(describe(onHeap), describe(offHeap));
+        onHeap.stop();
+        offHeap.stop();
+    }
+}
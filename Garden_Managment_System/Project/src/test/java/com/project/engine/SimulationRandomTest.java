@@ -0,0 +1,79 @@
+package com.project.engine;
+
+import com.project.factory.PlantSpec;
+import com.project.factory.PlantType;
+import com.project.logger.Logger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class SimulationRandomTest {
+
+    private static final long TEN_MINUTES = 10 * 60 * 1000L;
+
+    @BeforeAll
+    static void quietLogger() {
+        Logger.setConsoleLogging(false);
+        Logger.setMinimumLevel(Logger.LogLevel.ERROR);
+    }
+
+    @Test
+    void subsystemStreamsRepeatForTheSameSeed() {
+        SimulationRandom random = new SimulationRandom(7);
+        SimulationRandom sameSeed = new SimulationRandom(7);
+
+        assertEquals(random.stream(SimulationRandom.Subsystem.INSECT_ATTACK).nextLong(),
+            random.stream(SimulationRandom.Subsystem.INSECT_ATTACK).nextLong());
+        assertEquals(random.stream(SimulationRandom.Subsystem.INSECT_ATTACK).nextLong(),
+            sameSeed.stream(SimulationRandom.Subsystem.INSECT_ATTACK).nextLong());
+    }
+
+    @Test
+    void enginesWithTheSameSeedSeeTheSameInsectAttacks() {
+        List<String> first = insectAttacks(42);
+        List<String> second = insectAttacks(42);
+
+        assertFalse(first.isEmpty(), "no insect attack in " + TEN_MINUTES + " ms");
+        assertEquals(first, second);
+    }
+
+    /**
+     * Runs a fully planted garden for ten simulated minutes.
+     *
+     * @return The insect attack messages, in order, without their time stamps.
+     */
+    private static List<String> insectAttacks(long seed) {
+        List<String> attacks = new ArrayList<>();
+        GardenEngine engine = new GardenEngine(8, 8, Runnable::run, new GardenListener() {
+            @Override
+            public void log(Logger.LogLevel level, String message) {
+                record(message);
+            }
+
+            @Override
+            public void logImportant(Logger.LogLevel level, String message) {
+                record(message);
+            }
+
+            private void record(String message) {
+                if (message.contains("INSECT DAMAGE") || message.contains("has launched an attack")) {
+                    // Without the time stamp: simulated time starts at the wall-clock time of construction
+                    attacks.add(message.substring(message.indexOf(' ') + 1));
+                }
+            }
+        }, new SimulationRandom(seed));
+
+        PlantType[] types = PlantType.values();
+        for (int i = 0; i < types.length; i++) {
+            engine.plantAll(new CellRegion(i, 0, 1, 8), types[i], PlantSpec.defaults(types[i]));
+        }
+        engine.runFor(TEN_MINUTES);
+        engine.stop();
+        return attacks;
+    }
+}
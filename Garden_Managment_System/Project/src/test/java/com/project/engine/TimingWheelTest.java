@@ -0,0 +1,151 @@
+package com.project.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static final int SLOTS = 64;
+    private static final long TOP_LEVEL_SPAN = (long) SLOTS * SLOTS * SLOTS * SLOTS;
+
+    private final EventScheduler scheduler = new EventScheduler(Runnable::run, new SimulationClock(SimulationClock.AS_FAST_AS_POSSIBLE));
+    // One-millisecond ticks, so a delay is also the number of ticks
+    private final TimingWheel wheel = new TimingWheel(scheduler, 1, 4, 4);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    void timerCancelledWhileItsSlotIsFiringDoesNotRun() {
+        TimingWheel.Timer[] later = new TimingWheel.Timer[1];
+        wheel.schedule(0, 1, 5, () -> {
+            fired.add("first");
+            later[0].cancel();
+        });
+        later[0] = wheel.schedule(1, 1, 5, () -> fired.add("second"));
+        TimingWheel.Timer periodic = wheel.scheduleAtFixedRate(2, 1, 5, 5, () -> fired.add("periodic " + scheduler.now()));
+        // Queued in the tick 10 slot before the periodic timer comes back to it after its first firing
+        wheel.schedule(3, 1, 10, () -> periodic.cancel());
+        TimingWheel.Timer[] selfCancelling = new TimingWheel.Timer[1];
+        selfCancelling[0] = wheel.scheduleAtFixedRate(0, 2, 5, 5, () -> {
+            fired.add("self-cancelling " + scheduler.now());
+            if (scheduler.now() == 10) selfCancelling[0].cancel();
+        });
+
+        scheduler.runUntil(100);
+
+        assertEquals(List.of("first", "periodic 5", "self-cancelling 5", "self-cancelling 10"), fired);
+        assertTrue(later[0].isCancelled());
+        assertTrue(periodic.isCancelled());
+        assertTrue(selfCancelling[0].isCancelled());
+        assertEquals(0, wheel.getLiveTimerCount());
+    }
+
+    @Test
+    void timersFireOnTimeAcrossTheLevelBoundaries() {
+        // Start off the level boundaries so the timers have to cascade on the way
+        wheel.schedule(0, 1, 30, () -> {
+        });
+        scheduler.runUntil(30);
+        long[] delays = {1, 33, 34, 35, 63, 64, 65, 4065, 4066, 4067, 4096, 4097, 3 * SLOTS * SLOTS + 7, SLOTS * SLOTS * SLOTS + 1};
+        for (long delay : delays) {
+            long due = 30 + delay;
+            wheel.schedule(0, 1, delay, () -> fired.add(due + " at " + scheduler.now()));
+        }
+
+        scheduler.runUntil(30 + SLOTS * SLOTS * SLOTS + 2);
+
+        List<String> expected = new ArrayList<>();
+        for (long delay : delays) {
+            expected.add((30 + delay) + " at " + (30 + delay));
+        }
+        assertEquals(expected, fired);
+        assertEquals(0, wheel.getLiveTimerCount());
+    }
+
+    @Test
+    void timerBeyondTheTopLevelSpanFiresOnTime() {
+        long delay = TOP_LEVEL_SPAN + 100;
+        wheel.schedule(0, 1, delay, () -> fired.add("late " + scheduler.now()));
+        wheel.schedule(0, 2, TOP_LEVEL_SPAN - 1, () -> fired.add("early " + scheduler.now()));
+
+        scheduler.runUntil(TOP_LEVEL_SPAN);
+        assertEquals(List.of("early " + (TOP_LEVEL_SPAN - 1)), fired);
+        assertEquals(1, wheel.getLiveTimerCount());
+
+        scheduler.runUntil(delay);
+        assertEquals(List.of("early " + (TOP_LEVEL_SPAN - 1), "late " + delay), fired);
+        assertEquals(0, wheel.getLiveTimerCount());
+    }
+
+    @Test
+    void cancelAllDropsEveryTimerOfTheCell() {
+        List<TimingWheel.Timer> cellTimers = List.of(
+            wheel.schedule(5, 1, 10, () -> fired.add("one-shot")),
+            wheel.scheduleAtFixedRate(5, 2, 0, 5, () -> fired.add("periodic")),
+            wheel.schedule(5, 3, 10_000, () -> fired.add("far")));
+        TimingWheel.Timer neighbour = wheel.schedule(6, 1, 10, () -> fired.add("neighbour"));
+
+        wheel.cancelAll(5);
+
+        for (TimingWheel.Timer timer : cellTimers) {
+            assertTrue(timer.isCancelled());
+        }
+        assertNull(wheel.find(5, 1));
+        assertNull(wheel.find(5, 2));
+        assertNull(wheel.find(5, 3));
+        assertSame(neighbour, wheel.find(6, 1));
+        assertEquals(1, wheel.getLiveTimerCount());
+
+        scheduler.runUntil(20_000);
+        assertEquals(List.of("neighbour"), fired);
+    }
+
+    @Test
+    void liveTimerCountFollowsSchedulingFiringAndCancelling() {
+        TimingWheel.Timer oneShot = wheel.schedule(0, 1, 10, () -> {
+            fired.add("one-shot");
+            // A one-shot timer is no longer found, or live, once it starts firing
+            assertNull(wheel.find(0, 1));
+        });
+        List<Integer> liveWhilePeriodicRuns = new ArrayList<>();
+        TimingWheel.Timer[] periodicTimer = new TimingWheel.Timer[1];
+        periodicTimer[0] = wheel.scheduleAtFixedRate(0, 2, 5, 5, () -> {
+            // A periodic timer stays live, and is found, while its action runs
+            assertSame(periodicTimer[0], wheel.find(0, 2));
+            liveWhilePeriodicRuns.add(wheel.getLiveTimerCount());
+        });
+        TimingWheel.Timer periodic = periodicTimer[0];
+        assertEquals(2, wheel.getLiveTimerCount());
+        assertSame(oneShot, wheel.find(0, 1));
+
+        scheduler.runUntil(10);
+        assertEquals(List.of("one-shot"), fired);
+        // At tick 10 the one-shot timer, queued first, has already fired
+        assertEquals(List.of(2, 1), liveWhilePeriodicRuns);
+        assertEquals(1, wheel.getLiveTimerCount());
+        assertFalse(periodic.isCancelled());
+
+        // Cancelling a spent or cancelled timer again changes nothing
+        oneShot.cancel();
+        assertEquals(1, wheel.getLiveTimerCount());
+        periodic.cancel();
+        periodic.cancel();
+        assertEquals(0, wheel.getLiveTimerCount());
+
+        // The wheel leaves the scheduler once it has no live timers, and starts again with the next
+        scheduler.runUntil(20);
+        assertEquals(0, scheduler.getPendingEventCount());
+        wheel.schedule(0, 1, 5, () -> fired.add("again " + scheduler.now()));
+        assertEquals(1, wheel.getLiveTimerCount());
+        scheduler.runUntil(30);
+        assertEquals(List.of("one-shot", "again 25"), fired);
+        assertEquals(0, wheel.getLiveTimerCount());
+    }
+}